@@ -0,0 +1,42 @@
+package com.example.tech_interview_buddy.app.client;
+
+import com.example.tech_interview_buddy.app.dto.external.RecommendRequest;
+import com.example.tech_interview_buddy.app.dto.external.RecommendResponse;
+import com.example.tech_interview_buddy.app.dto.external.RecommendedQuestion;
+import com.example.tech_interview_buddy.recommend.engine.Deadline;
+import com.example.tech_interview_buddy.recommend.service.RecommendService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 같은 JVM의 추천 엔진을 직접 호출하는 어댑터 (JSON 직렬화/HTTP 없음)
+ */
+@Component
+@ConditionalOnProperty(name = "recommend.client.mode", havingValue = "in-process")
+@RequiredArgsConstructor
+public class InProcessRecommender {
+
+	private final RecommendService recommendService;
+
+	/**
+	 * @param remainingMillis 남은 지연 예산 (지나면 엔진이 그때까지의 결과로 끝낸다)
+	 */
+	public RecommendResponse recommend(RecommendRequest request, long remainingMillis) {
+		List<RecommendedQuestion> recommended = recommendService.recommend(
+				request.getCategory(), request.getTags(), request.getUserId(), request.getSolvedQuestionIds(),
+				Deadline.after(remainingMillis))
+			.stream()
+			.map(question -> RecommendedQuestion.builder()
+				.id(question.getId())
+				.content(question.getContent())
+				.category(question.getCategory())
+				.build())
+			.toList();
+		return RecommendResponse.builder()
+			.recommendedQuestions(recommended)
+			.build();
+	}
+}
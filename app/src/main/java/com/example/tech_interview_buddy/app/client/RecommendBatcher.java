@@ -0,0 +1,99 @@
+package com.example.tech_interview_buddy.app.client;
+
+import com.example.tech_interview_buddy.app.dto.external.RecommendRequest;
+import com.example.tech_interview_buddy.app.dto.external.RecommendResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Recommend 호출 마이크로 배처
+ * 짧은 시간 창(window) 안에 들어온 요청을 모아 배치 호출 한 번으로 보내고, 응답을 순서대로 나눠 각 호출자에게 돌려준다.
+ * 창이 끝나거나 maxBatchSize만큼 모이면 바로 보낸다.
+ */
+class RecommendBatcher {
+
+	private final int maxBatchSize;
+	private final long windowMillis;
+	private final ScheduledExecutorService timer;
+	/**
+	 * (요청 목록, 배치의 첫 요청 시각 nanoTime) → 요청 순서대로의 응답
+	 */
+	private final BiFunction<List<RecommendRequest>, Long, CompletableFuture<List<RecommendResponse>>> sender;
+
+	private final Object lock = new Object();
+	private Batch current;
+
+	RecommendBatcher(int maxBatchSize, long windowMillis, ScheduledExecutorService timer,
+					 BiFunction<List<RecommendRequest>, Long, CompletableFuture<List<RecommendResponse>>> sender) {
+		this.maxBatchSize = maxBatchSize;
+		this.windowMillis = windowMillis;
+		this.timer = timer;
+		this.sender = sender;
+	}
+
+	CompletableFuture<RecommendResponse> submit(RecommendRequest request) {
+		CompletableFuture<RecommendResponse> future = new CompletableFuture<>();
+		Batch full = null;
+		synchronized (lock) {
+			if (current == null) {
+				Batch batch = new Batch();
+				current = batch;
+				// 창의 시작은 배치의 첫 요청 (이미 가득 차서 보낸 배치면 flush가 무시한다)
+				timer.schedule(() -> flush(batch), windowMillis, TimeUnit.MILLISECONDS);
+			}
+			current.requests.add(request);
+			current.futures.add(future);
+			if (current.requests.size() >= maxBatchSize) {
+				full = current;
+				current = null;
+			}
+		}
+		if (full != null) {
+			dispatch(full);
+		}
+		return future;
+	}
+
+	private void flush(Batch batch) {
+		synchronized (lock) {
+			if (current != batch) {
+				return;
+			}
+			current = null;
+		}
+		dispatch(batch);
+	}
+
+	private void dispatch(Batch batch) {
+		CompletableFuture<List<RecommendResponse>> call;
+		try {
+			call = sender.apply(batch.requests, batch.createdAtNanos);
+		} catch (RuntimeException e) {
+			call = CompletableFuture.failedFuture(e);
+		}
+		call.whenComplete((responses, e) -> {
+			Throwable failure = e;
+			if (failure == null && (responses == null || responses.size() != batch.requests.size())) {
+				failure = new IllegalStateException("Recommend batch response size mismatch");
+			}
+			for (int i = 0; i < batch.futures.size(); i++) {
+				if (failure != null) {
+					batch.futures.get(i).completeExceptionally(failure);
+				} else {
+					batch.futures.get(i).complete(responses.get(i));
+				}
+			}
+		});
+	}
+
+	private static final class Batch {
+		final long createdAtNanos = System.nanoTime();
+		final List<RecommendRequest> requests = new ArrayList<>();
+		final List<CompletableFuture<RecommendResponse>> futures = new ArrayList<>();
+	}
+}
@@ -0,0 +1,65 @@
+package com.example.tech_interview_buddy.app.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recommend 서비스 호출용 서킷 브레이커
+ * 연속 실패가 임계치에 닿으면 일정 시간 동안 호출 없이 바로 실패(빈 추천)시키고,
+ * 시간이 지나면 한 건만 시험 호출(half-open)하여 성공하면 다시 닫는다.
+ */
+@Slf4j
+class RecommendCircuitBreaker {
+
+	private final int failureThreshold;
+	private final long openDurationMillis;
+
+	private final AtomicInteger consecutiveFailures = new AtomicInteger();
+	private final AtomicLong openedAt = new AtomicLong(0L);  // 0이면 닫힘
+	private final AtomicBoolean trialInFlight = new AtomicBoolean(false);
+
+	RecommendCircuitBreaker(int failureThreshold, long openDurationMillis) {
+		this.failureThreshold = failureThreshold;
+		this.openDurationMillis = openDurationMillis;
+	}
+
+	/**
+	 * @return 호출해도 되면 true, 열려 있으면 false
+	 */
+	boolean tryAcquire() {
+		long opened = openedAt.get();
+		if (opened == 0L) {
+			return true;
+		}
+		if (System.currentTimeMillis() - opened < openDurationMillis) {
+			return false;
+		}
+		// half-open: 열린 시간이 지나면 한 건만 시험 호출을 허용
+		return trialInFlight.compareAndSet(false, true);
+	}
+
+	void recordSuccess() {
+		consecutiveFailures.set(0);
+		if (openedAt.getAndSet(0L) != 0L) {
+			log.info("Recommend 서킷 브레이커 닫힘");
+		}
+		trialInFlight.set(false);
+	}
+
+	void releaseTrial() {
+		trialInFlight.set(false);
+	}
+
+	void recordFailure() {
+		int failures = consecutiveFailures.incrementAndGet();
+		if (trialInFlight.get() || failures >= failureThreshold) {
+			if (openedAt.getAndSet(System.currentTimeMillis()) == 0L) {
+				log.warn("Recommend 서킷 브레이커 열림 (연속 실패 {}회)", failures);
+			}
+		}
+		trialInFlight.set(false);
+	}
+}
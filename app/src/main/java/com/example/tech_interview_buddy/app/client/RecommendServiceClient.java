@@ -1,48 +1,309 @@
 package com.example.tech_interview_buddy.app.client;
 
+import com.example.tech_interview_buddy.app.dto.external.RecommendBatchRequest;
+import com.example.tech_interview_buddy.app.dto.external.RecommendBatchResponse;
 import com.example.tech_interview_buddy.app.dto.external.RecommendRequest;
 import com.example.tech_interview_buddy.app.dto.external.RecommendResponse;
-import lombok.RequiredArgsConstructor;
+import com.example.tech_interview_buddy.domain.search.SolvedHistory;
+import com.example.tech_interview_buddy.recommend.engine.SolvedHistoryCodec;
+import com.github.benmanes.caffeine.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import java.util.Collections;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class RecommendServiceClient {
 
+	/**
+	 * 호출자에게 남은 지연 예산(ms, 상대값). 추천 서비스는 이 시간이 지나면 계산을 멈추고 그때까지의 결과로 응답한다.
+	 */
+	static final String DEADLINE_HEADER = "X-Deadline-Remaining-Ms";
+
 	private final RestTemplate restTemplate;
+	private final RecommendCircuitBreaker circuitBreaker;
+	private final Semaphore bulkhead;
+	private final long latencyBudgetMillis;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+	private final ScheduledExecutorService batchTimer = Executors.newSingleThreadScheduledExecutor(
+		Thread.ofPlatform().name("recommend-batcher").daemon().factory());
+	private final AsyncLoadingCache<RecommendKey, CachedRecommendation> cache;
+	private final RecommendBatcher batcher;
+	private final InProcessRecommender inProcessRecommender;
 
 	@Value("${external.service.url:http://localhost:8081}")
 	private String recommendServiceUrl;
 
+	public RecommendServiceClient(@Qualifier("recommendRestTemplate") RestTemplate restTemplate,
+								  @Value("${recommend.client.latency-budget-ms:500}") long latencyBudgetMillis,
+								  @Value("${recommend.client.max-concurrent-calls:50}") int maxConcurrentCalls,
+								  @Value("${recommend.client.circuit.failure-threshold:5}") int failureThreshold,
+								  @Value("${recommend.client.circuit.open-duration-ms:10000}") long openDurationMillis,
+								  @Value("${recommend.cache.maximum-size:10000}") long cacheMaximumSize,
+								  @Value("${recommend.cache.ttl-seconds:600}") long ttlSeconds,
+								  @Value("${recommend.cache.refresh-after-seconds:60}") long refreshAfterSeconds,
+								  @Value("${recommend.cache.negative-ttl-seconds:10}") long negativeTtlSeconds,
+								  @Value("${recommend.client.batch.enabled:true}") boolean batchEnabled,
+								  @Value("${recommend.client.batch.window-ms:2}") long batchWindowMillis,
+								  @Value("${recommend.client.batch.max-size:32}") int batchMaxSize,
+								  @Value("${recommend.client.mode:remote}") String mode,
+								  ObjectProvider<InProcessRecommender> inProcessRecommenderProvider,
+								  MeterRegistry meterRegistry) {
+		this.restTemplate = restTemplate;
+		this.latencyBudgetMillis = latencyBudgetMillis;
+		this.bulkhead = new Semaphore(maxConcurrentCalls);
+		this.circuitBreaker = new RecommendCircuitBreaker(failureThreshold, openDurationMillis);
+		this.cache = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+			.maximumSize(cacheMaximumSize)
+			.expireAfter(new RecommendationExpiry(Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(negativeTtlSeconds)))
+			.refreshAfterWrite(Duration.ofSeconds(refreshAfterSeconds))
+			.executor(executor)
+			.recordStats()
+			.buildAsync(new RecommendationLoader()), "recommendResponses");
+		this.inProcessRecommender = "in-process".equals(mode) ? inProcessRecommenderProvider.getIfAvailable() : null;
+		if ("in-process".equals(mode) && inProcessRecommender == null) {
+			throw new IllegalStateException("recommend.client.mode=in-process but no in-process recommender bean is registered");
+		}
+		// 같은 JVM 호출은 왕복 비용이 없으므로 묶지 않는다
+		this.batcher = batchEnabled && inProcessRecommender == null
+			? new RecommendBatcher(batchMaxSize, batchWindowMillis, batchTimer, this::fetchBatch)
+			: null;
+	}
+
+	/**
+	 * Recommend 서비스를 비동기로 호출합니다.
+	 * 요청 스레드를 막지 않도록 DB 조회와 동시에 시작하고, 응답이 필요할 때 join합니다.
+	 * 지연 예산 초과, 서킷 열림, 동시 호출 상한(bulkhead) 초과, 호출 오류 시 모두 빈 추천으로 끝나며 예외를 던지지 않습니다.
+	 *
+	 * 🚀 요청은 (category, 정렬·중복 제거된 tags) 키로 캐싱되어 대부분 네트워크 호출 없이 끝납니다.
+	 * refreshAfterWrite가 지나면 기존 값을 바로 돌려주고 백그라운드에서 갱신하므로 호출자는 갱신을 기다리지 않습니다.
+	 */
+	public CompletableFuture<RecommendResponse> callRecommendServiceAsync(RecommendRequest request) {
+		return callRecommendServiceAsync(request, null);
+	}
+
+	/**
+	 * 풀이 이력으로 개인화한 추천 (푼 질문 제외, 약한 태그 가중치)
+	 * 이력이 없는 요청(비로그인, 푼 질문 없음)은 (category, tags) 공유 캐시를 쓰고,
+	 * 이력이 있으면 사용자와 이력 버전까지 키에 넣는다. 이력은 캐시 미스일 때만 인코딩해 보낸다.
+	 *
+	 * @param history request.userId의 풀이 이력 (null이면 개인화하지 않음)
+	 */
+	public CompletableFuture<RecommendResponse> callRecommendServiceAsync(RecommendRequest request, SolvedHistory history) {
+		return cache.get(RecommendKey.of(request, history)).thenApply(CachedRecommendation::response);
+	}
+
+	/**
+	 * 동기 호출이 필요한 곳을 위한 래퍼 (지연 예산 안에서 끝남)
+	 */
 	public RecommendResponse callRecommendService(RecommendRequest request) {
-		try {
-			String url = recommendServiceUrl + "/api/v1/recommend";
-			return restTemplate.postForObject(url, request, RecommendResponse.class);
-		} catch (ResourceAccessException e) {
+		return callRecommendServiceAsync(request).join();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		batchTimer.shutdownNow();
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 캐시 미스 한 건의 호출 (실패하면 예외로 완료되어 캐시가 실패를 구분할 수 있다)
+	 * 🚀 배칭이 켜져 있으면 동시에 들어온 다른 키의 미스와 묶여 /recommend/batch 한 번으로 나간다.
+	 */
+	private CompletableFuture<RecommendResponse> fetch(RecommendRequest request) {
+		long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(latencyBudgetMillis);
+		if (inProcessRecommender != null) {
+			// 🚀 같은 JVM의 엔진을 직접 호출 (직렬화/소켓 없음), 지연 예산·서킷·bulkhead는 원격 호출과 동일하게 적용
+			return guardedCall(() -> inProcessRecommender.recommend(request, remainingMillis(deadlineNanos)));
+		}
+		if (batcher != null) {
+			// 배치 창에서 기다린 시간까지 지연 예산에 포함
+			return batcher.submit(request).orTimeout(latencyBudgetMillis, TimeUnit.MILLISECONDS);
+		}
+		return guardedCall(() -> restTemplate.postForObject(recommendServiceUrl + "/api/v1/recommend",
+			withDeadline(request, deadlineNanos), RecommendResponse.class));
+	}
+
+	/**
+	 * @param firstSubmittedNanos 배치의 첫 요청이 들어온 시각 (배치의 기한은 가장 먼저 기다린 요청 기준)
+	 */
+	private CompletableFuture<List<RecommendResponse>> fetchBatch(List<RecommendRequest> requests, long firstSubmittedNanos) {
+		long deadlineNanos = firstSubmittedNanos + TimeUnit.MILLISECONDS.toNanos(latencyBudgetMillis);
+		RecommendBatchRequest batchRequest = RecommendBatchRequest.builder()
+			.requests(List.copyOf(requests))
+			.build();
+		return guardedCall(() -> restTemplate.postForObject(recommendServiceUrl + "/api/v1/recommend/batch",
+				withDeadline(batchRequest, deadlineNanos), RecommendBatchResponse.class))
+			.thenApply(response -> response != null ? response.getResponses() : null);
+	}
+
+	/**
+	 * 남은 예산을 헤더에 실어, 추천 서비스가 호출자가 포기한 뒤에도 계속 계산하지 않게 한다
+	 */
+	private static <T> HttpEntity<T> withDeadline(T body, long deadlineNanos) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(DEADLINE_HEADER, Long.toString(remainingMillis(deadlineNanos)));
+		return new HttpEntity<>(body, headers);
+	}
+
+	private static long remainingMillis(long deadlineNanos) {
+		return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+	}
+
+	/**
+	 * 서킷 브레이커, 동시 호출 상한, 지연 예산을 적용한 HTTP 호출 (배치 호출도 한 건으로 센다)
+	 */
+	private <T> CompletableFuture<T> guardedCall(Supplier<T> call) {
+		if (!circuitBreaker.tryAcquire()) {
+			return CompletableFuture.failedFuture(new IllegalStateException("Recommend circuit is open"));
+		}
+		// 🚀 느린 추천 서비스가 가상 스레드/커넥션을 무한정 쌓지 않도록 동시 호출 수를 제한
+		if (!bulkhead.tryAcquire()) {
+			log.warn("Recommend 서비스 동시 호출 상한 초과, 빈 추천으로 대체");
+			circuitBreaker.releaseTrial();  // 서비스 상태와 무관한 거절이므로 시험 호출 자격만 반납
+			return CompletableFuture.failedFuture(new IllegalStateException("Recommend bulkhead is full"));
+		}
+
+		return CompletableFuture.supplyAsync(() -> {
+				try {
+					return call.get();
+				} finally {
+					// 지연 예산을 넘겨도 실제 호출이 끝날 때까지는 슬롯을 잡고 있어야 상한이 지켜진다
+					bulkhead.release();
+				}
+			}, executor)
+			.orTimeout(latencyBudgetMillis, TimeUnit.MILLISECONDS)
+			.whenComplete((response, e) -> {
+				if (e == null) {
+					circuitBreaker.recordSuccess();
+					return;
+				}
+				circuitBreaker.recordFailure();
+				logFailure(e instanceof CompletionException ? e.getCause() : e);
+			});
+	}
+
+	private void logFailure(Throwable e) {
+		if (e instanceof TimeoutException) {
+			log.warn("Recommend 서비스 응답이 지연 예산({}ms)을 넘어 빈 추천으로 대체", latencyBudgetMillis);
+		} else if (e instanceof ResourceAccessException) {
 			log.warn("Recommend 서비스 호출 실패 (타임아웃 또는 연결 오류): {}", e.getMessage());
-			return RecommendResponse.builder()
-				.recommendedQuestions(Collections.emptyList())
-				.build();
-		} catch (RestClientException e) {
+		} else if (e instanceof RestClientException) {
 			log.warn("Recommend 서비스 호출 실패: {}", e.getMessage());
-			return RecommendResponse.builder()
-				.recommendedQuestions(Collections.emptyList())
-				.build();
-		} catch (Exception e) {
+		} else {
 			log.error("Recommend 서비스 호출 중 예상치 못한 오류 발생", e);
-			return RecommendResponse.builder()
-				.recommendedQuestions(Collections.emptyList())
+		}
+	}
+
+	/**
+	 * 캐시 키: tags는 순서/중복과 무관하게 같은 요청으로 본다
+	 * 개인화 요청은 사용자와 이력 버전(SolvedHistory는 버전으로만 비교)까지 키에 포함되므로, 답변을 새로 쓰면 새 추천을 받는다.
+	 */
+	private record RecommendKey(String category, List<String> tags, Long userId, SolvedHistory history) {
+
+		static RecommendKey of(RecommendRequest request, SolvedHistory history) {
+			List<String> tags = request.getTags() == null ? List.of() : request.getTags().stream()
+				.filter(Objects::nonNull)
+				.map(String::trim)
+				.filter(tag -> !tag.isEmpty())
+				.distinct()
+				.sorted()
+				.toList();
+			boolean personalized = request.getUserId() != null && history != null && !history.isEmpty();
+			return personalized
+				? new RecommendKey(request.getCategory(), tags, request.getUserId(), history)
+				: new RecommendKey(request.getCategory(), tags, null, null);
+		}
+
+		RecommendRequest toRequest() {
+			return RecommendRequest.builder()
+				.category(category)
+				.tags(tags)
+				.userId(userId)
+				.solvedQuestionIds(history != null ? SolvedHistoryCodec.encode(history.getQuestionIds().toArray()) : null)
 				.build();
 		}
 	}
-}
 
+	/**
+	 * 캐시 값: 실패도 짧은 TTL로 캐싱하여(negative caching) 장애 중 같은 키로 호출이 몰리지 않게 한다
+	 */
+	private record CachedRecommendation(RecommendResponse response, boolean failed, long fetchedAtNanos) {
+
+		static CachedRecommendation success(RecommendResponse response) {
+			return new CachedRecommendation(response != null ? response : RecommendResponse.empty(), false, System.nanoTime());
+		}
+
+		static CachedRecommendation failure() {
+			return new CachedRecommendation(RecommendResponse.empty(), true, System.nanoTime());
+		}
+	}
+
+	private class RecommendationLoader implements AsyncCacheLoader<RecommendKey, CachedRecommendation> {
+
+		@Override
+		public CompletableFuture<CachedRecommendation> asyncLoad(RecommendKey key, Executor executor) {
+			return fetch(key.toRequest())
+				.handle((response, e) -> e == null ? CachedRecommendation.success(response) : CachedRecommendation.failure());
+		}
+
+		/**
+		 * 백그라운드 갱신이 실패하면 정상 응답을 빈 추천으로 덮어쓰지 않고 기존 값을 그대로 둔다
+		 */
+		@Override
+		public CompletableFuture<CachedRecommendation> asyncReload(RecommendKey key, CachedRecommendation oldValue, Executor executor) {
+			return asyncLoad(key, executor)
+				.thenApply(fresh -> fresh.failed() && !oldValue.failed() ? oldValue : fresh);
+		}
+	}
+
+	/**
+	 * 값을 받아온 시점부터 TTL을 센다 (갱신 실패로 유지된 값은 원래 만료 시점을 그대로 따른다)
+	 */
+	private record RecommendationExpiry(Duration ttl, Duration negativeTtl) implements Expiry<RecommendKey, CachedRecommendation> {
+
+		@Override
+		public long expireAfterCreate(RecommendKey key, CachedRecommendation value, long currentTime) {
+			Duration lifetime = value.failed() ? negativeTtl : ttl;
+			return Math.max(0L, lifetime.toNanos() - (currentTime - value.fetchedAtNanos()));
+		}
+
+		@Override
+		public long expireAfterUpdate(RecommendKey key, CachedRecommendation value, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, value, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(RecommendKey key, CachedRecommendation value, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
@@ -0,0 +1,17 @@
+package com.example.tech_interview_buddy.app.config;
+
+import com.example.tech_interview_buddy.domain.UserRole;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * JWT 클레임만으로 만든 인증 사용자 정보
+ * 요청마다 User 엔티티를 조회하지 않도록, 필터가 SecurityContext의 principal과 "currentUser" 요청 속성에 넣는다.
+ */
+@Getter
+@Builder
+public class AuthenticatedUser {
+    private Long id;
+    private String username;
+    private UserRole role;
+}
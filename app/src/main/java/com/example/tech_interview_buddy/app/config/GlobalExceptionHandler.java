@@ -4,6 +4,8 @@ package com.example.tech_interview_buddy.app.config;
 import java.util.HashMap;
 import java.util.Map;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -33,4 +35,28 @@ public class GlobalExceptionHandler {
     public String handleIllegalArgument(IllegalArgumentException ex) {
         return ex.getMessage();
     }
+
+    /**
+     * 리포지토리 안에서 던진 IllegalArgumentException(잘못된 커서 등)은 예외 변환을 거쳐 이 타입으로 감싸져 온다
+     */
+    @ExceptionHandler(InvalidDataAccessApiUsageException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public String handleInvalidDataAccessApiUsage(InvalidDataAccessApiUsageException ex) {
+        if (!(ex.getCause() instanceof IllegalArgumentException cause)) {
+            throw ex;
+        }
+        return cause.getMessage();
+    }
+
+    @ExceptionHandler(PasswordHashingOverloadedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handlePasswordHashingOverloaded(PasswordHashingOverloadedException ex) {
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(QueryTimeoutException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public String handleQueryTimeout(QueryTimeoutException ex) {
+        return ex.getMessage();
+    }
 }
@@ -0,0 +1,56 @@
+package com.example.tech_interview_buddy.app.config;
+
+import com.example.tech_interview_buddy.domain.IdSequence;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테이블 id 할당 행을 기존 데이터의 최대 id로 맞춘다 (next_val에는 마지막으로 할당한 id가 저장된다).
+ * IDENTITY로 쌓인 행이 있는 DB에서 구간 할당이 1부터 시작해 키가 겹치지 않도록,
+ * 요청을 받기 전(싱글톤 초기화 직후)에 한 번 실행한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceInitializer implements SmartInitializingSingleton {
+
+    // 시퀀스 이름 → id를 할당받는 테이블
+    private static final Map<String, String> SEQUENCES = Map.of(
+        "question", "question",
+        "question_tag", "question_tag"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + IdSequence.TABLE + " ("
+            + IdSequence.NAME_COLUMN + " VARCHAR(255) NOT NULL PRIMARY KEY, "
+            + IdSequence.VALUE_COLUMN + " BIGINT)");
+        SEQUENCES.forEach(this::alignSequence);
+    }
+
+    private void alignSequence(String sequenceName, String table) {
+        Long lastId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        List<Long> current = jdbcTemplate.queryForList(
+            "SELECT " + IdSequence.VALUE_COLUMN + " FROM " + IdSequence.TABLE + " WHERE " + IdSequence.NAME_COLUMN + " = ?",
+            Long.class, sequenceName);
+
+        if (current.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO " + IdSequence.TABLE + " (" + IdSequence.NAME_COLUMN + ", "
+                + IdSequence.VALUE_COLUMN + ") VALUES (?, ?)", sequenceName, lastId);
+        } else if (current.get(0) == null || current.get(0) < lastId) {
+            jdbcTemplate.update("UPDATE " + IdSequence.TABLE + " SET " + IdSequence.VALUE_COLUMN + " = ? WHERE "
+                + IdSequence.NAME_COLUMN + " = ?", lastId, sequenceName);
+        } else {
+            return;
+        }
+        log.info("id 할당 기준값 조정: {} → {}", sequenceName, lastId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.tech_interview_buddy.app.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 추천 서비스를 앱과 같은 JVM에 함께 띄우는 in-process 모드
+ * 추천 엔진/스냅샷 로더 빈을 앱 컨텍스트에 등록한다 (recommend.snapshot.path, recommend.index.path 설정을 그대로 사용).
+ * HTTP 컨트롤러는 등록하지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "recommend.client.mode", havingValue = "in-process")
+@ComponentScan(basePackages = {
+	"com.example.tech_interview_buddy.recommend.engine",
+	"com.example.tech_interview_buddy.recommend.service"
+})
+public class InProcessRecommendConfig {
+}
@@ -7,16 +7,15 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
-import com.example.tech_interview_buddy.domain.repository.UserRepository;
-import com.example.tech_interview_buddy.domain.User;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -25,10 +24,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final String BEARER_PREFIX = "Bearer ";
     private static final int BEARER_PREFIX_LENGTH = 7;
+    private static final String ROLE_PREFIX = "ROLE_";
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
-    private final UserRepository userRepository;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -39,50 +37,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        if (hasInvalidJwtToken(request)) {
+        String jwt = getJwtFromRequest(request);
+        if (jwt == null) {
             filterChain.doFilter(request, response);
             return;
         }
 
         try {
-            long startTime = System.currentTimeMillis();
-            
-            String jwt = getJwtFromRequest(request);
-            long jwtExtractTime = System.currentTimeMillis();
-            log.debug("JWT 추출 시간: {}ms", jwtExtractTime - startTime);
-            
-            String username = jwtTokenProvider.getUsernameFromToken(jwt);
-            long usernameExtractTime = System.currentTimeMillis();
-            log.debug("사용자명 추출 시간: {}ms", usernameExtractTime - jwtExtractTime);
-            
-            // User 엔티티를 먼저 조회 (한 번만 DB 조회)
-            User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("User not found"));
-            long userEntityTime = System.currentTimeMillis();
-            log.debug("User 엔티티 로딩 시간: {}ms", userEntityTime - usernameExtractTime);
-            
-            // UserDetails는 User 엔티티에서 직접 생성 (DB 조회 없음)
-            UserDetails userDetails = org.springframework.security.core.userdetails.User.builder()
-                .username(user.getUsername())
-                .password(user.getPassword())
-                .authorities(user.getRole().name())
-                .build();
-            long userDetailsTime = System.currentTimeMillis();
-            log.debug("UserDetails 생성 시간: {}ms", userDetailsTime - userEntityTime);
-
-            UsernamePasswordAuthenticationToken authentication =
-                new UsernamePasswordAuthenticationToken(userDetails, null,
-                    userDetails.getAuthorities());
-            authentication.setDetails(
-                new WebAuthenticationDetailsSource().buildDetails(request));
-            
-            // User 엔티티를 SecurityContext에 추가로 저장
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            request.setAttribute("currentUser", user);
-            
-            long totalTime = System.currentTimeMillis();
-            log.debug("JWT 인증 총 시간: {}ms", totalTime - startTime);
-
+            // 검증은 한 번만 하고, 토큰 클레임만으로 principal을 만든다 (요청마다 User를 조회하지 않음)
+            Optional<AuthenticatedUser> authenticatedUser = jwtTokenProvider.getAuthenticatedUser(jwt);
+            if (authenticatedUser.isPresent()) {
+                setAuthentication(request, authenticatedUser.get());
+            } else {
+                log.debug("유효하지 않거나 권한 변경으로 무효화된 토큰");
+            }
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
         }
@@ -90,19 +58,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private boolean hasInvalidJwtToken(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
+    private void setAuthentication(HttpServletRequest request, AuthenticatedUser user) {
+        UsernamePasswordAuthenticationToken authentication =
+            new UsernamePasswordAuthenticationToken(user, null,
+                List.of(new SimpleGrantedAuthority(ROLE_PREFIX + user.getRole().name())));
+        authentication.setDetails(
+            new WebAuthenticationDetailsSource().buildDetails(request));
 
-        if (bearerToken == null || !bearerToken.startsWith(BEARER_PREFIX)) {
-            return true;
-        }
-
-        String jwt = bearerToken.substring(BEARER_PREFIX_LENGTH);
-        return jwt == null || !jwtTokenProvider.validateToken(jwt);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        request.setAttribute("currentUser", user);
     }
 
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
+
+        if (bearerToken == null || !bearerToken.startsWith(BEARER_PREFIX)) {
+            return null;
+        }
         return bearerToken.substring(BEARER_PREFIX_LENGTH);
     }
 }
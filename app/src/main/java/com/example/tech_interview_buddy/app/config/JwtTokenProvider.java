@@ -1,63 +1,156 @@
 package com.example.tech_interview_buddy.app.config;
 
+import com.example.tech_interview_buddy.domain.User;
+import com.example.tech_interview_buddy.domain.UserRole;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Date;
+import java.util.Optional;
 
+@Slf4j
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret:defaultSecretKey}")
-    private String secretKey;
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
 
-    @Value("${jwt.expiration:86400000}")
-    private long validityInMilliseconds;
+    // MessageDigest는 스레드 안전하지 않고 getInstance는 프로바이더 조회 비용이 있어 스레드마다 재사용한다
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final UserTokenVersions userTokenVersions;
+    private final long validityInMilliseconds;
+
+    // 키와 파서는 불변이고 스레드 안전하므로 한 번만 만든다
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    // 최근 검증한 토큰 (토큰 SHA-256 → 클레임). 같은 토큰의 반복 요청은 서명 검증/JSON 파싱을 건너뛴다
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    public JwtTokenProvider(
+            UserTokenVersions userTokenVersions,
+            @Value("${jwt.secret:defaultSecretKey}") String secretKey,
+            @Value("${jwt.expiration:86400000}") long validityInMilliseconds,
+            @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedCacheMaximumSize,
+            @Value("${jwt.verified-cache.expire-after-write-seconds:60}") long verifiedCacheExpireSeconds) {
+        this.userTokenVersions = userTokenVersions;
+        this.validityInMilliseconds = validityInMilliseconds;
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(verifiedCacheMaximumSize)
+            .expireAfterWrite(Duration.ofSeconds(verifiedCacheExpireSeconds))
+            .build();
     }
 
-    public String generateToken(Authentication authentication) {
-        UserDetails userDetails = (UserDetails) authentication.getPrincipal();
+    /**
+     * 사용자 ID/권한/토큰 버전을 클레임에 넣어, 인증 필터가 DB 조회 없이 principal을 만들 수 있게 한다
+     */
+    public String generateToken(User user) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + validityInMilliseconds);
 
         return Jwts.builder()
-            .setSubject(userDetails.getUsername())
+            .setSubject(user.getUsername())
+            .claim(USER_ID_CLAIM, user.getId())
+            .claim(ROLE_CLAIM, user.getRole().name())
+            .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion())
             .setIssuedAt(now)
             .setExpiration(expiryDate)
-            .signWith(getSigningKey(), SignatureAlgorithm.HS512)
+            .signWith(signingKey, SignatureAlgorithm.HS512)
             .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-            .setSigningKey(getSigningKey())
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
-
-        return claims.getSubject();
+    /**
+     * 토큰을 한 번만 검증해 인증 사용자를 만든다.
+     * 서명/만료가 유효하지 않거나, 발급 후 권한이 바뀌었거나(토큰 버전 불일치), 클레임이 없는 이전 형식 토큰이면 비어 있다.
+     * 토큰 버전은 캐시와 관계없이 요청마다 확인하므로 권한 변경은 바로 반영된다.
+     */
+    public Optional<AuthenticatedUser> getAuthenticatedUser(String token) {
+        VerifiedToken verified = verify(token);
+        if (verified == null || !userTokenVersions.isCurrent(verified.user.getId(), verified.version)) {
+            return Optional.empty();
+        }
+        return Optional.of(verified.user);
     }
 
-    public boolean validateToken(String token) {
+    private VerifiedToken verify(String token) {
+        ByteBuffer key = sha256(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            // 캐시 TTL과 별개로 토큰 자체의 만료 시각은 넘기지 않는다
+            if (cached.expiresAtMillis > System.currentTimeMillis()) {
+                return cached;
+            }
+            verifiedTokens.invalidate(key);
+            return null;
+        }
+
+        Claims claims;
         try {
-            Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
-            return true;
+            claims = parser.parseClaimsJws(token).getBody();
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            log.debug("유효하지 않은 JWT: {}", e.getMessage());
+            return null;
+        }
+
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        Integer version = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+        if (userId == null || role == null || version == null || claims.getExpiration() == null) {
+            return null;
+        }
+        VerifiedToken verified = new VerifiedToken(
+            AuthenticatedUser.builder()
+                .id(userId)
+                .username(claims.getSubject())
+                .role(UserRole.valueOf(role))
+                .build(),
+            version,
+            claims.getExpiration().getTime());
+        verifiedTokens.put(key, verified);
+        return verified;
+    }
+
+    private static ByteBuffer sha256(String token) {
+        MessageDigest digest = SHA_256.get();
+        return ByteBuffer.wrap(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static final class VerifiedToken {
+        private final AuthenticatedUser user;
+        private final int version;
+        private final long expiresAtMillis;
+
+        private VerifiedToken(AuthenticatedUser user, int version, long expiresAtMillis) {
+            this.user = user;
+            this.version = version;
+            this.expiresAtMillis = expiresAtMillis;
         }
     }
 }
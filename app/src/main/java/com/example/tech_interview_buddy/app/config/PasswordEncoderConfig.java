@@ -3,18 +3,18 @@ package com.example.tech_interview_buddy.app.config;
 import com.example.tech_interview_buddy.common.security.PasswordEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 /**
  * PasswordEncoder 구현체 제공
  * Common 인터페이스를 구현하여 Domain에서 사용
+ * 로그인 검증과 같은 크기 제한 BCrypt 풀(SecurityConfig.springPasswordEncoder)에 위임한다
  */
 @Configuration
 public class PasswordEncoderConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new PasswordEncoderAdapter(new BCryptPasswordEncoder());
+    public PasswordEncoder passwordEncoder(org.springframework.security.crypto.password.PasswordEncoder springPasswordEncoder) {
+        return new PasswordEncoderAdapter(springPasswordEncoder);
     }
     
     private static class PasswordEncoderAdapter implements PasswordEncoder {
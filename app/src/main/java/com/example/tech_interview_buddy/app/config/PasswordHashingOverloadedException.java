@@ -0,0 +1,11 @@
+package com.example.tech_interview_buddy.app.config;
+
+/**
+ * 비밀번호 해시 풀이 포화되어 요청을 받지 못할 때 (503)
+ */
+public class PasswordHashingOverloadedException extends RuntimeException {
+
+    public PasswordHashingOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -1,10 +1,18 @@
 package com.example.tech_interview_buddy.app.config;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Configuration
 public class RestTemplateConfig {
 
@@ -16,5 +24,32 @@ public class RestTemplateConfig {
 		
 		return new RestTemplate(factory);
 	}
-}
 
+	/**
+	 * 추천 서비스 전용 RestTemplate (JDK HttpClient 기반)
+	 * 요청마다 새 연결을 여는 SimpleClientHttpRequestFactory 대신 keep-alive 연결을 풀링해 재사용한다.
+	 * 타임아웃은 추천 호출의 지연 예산에 맞춘다 (예산을 넘긴 응답은 어차피 버려진다).
+	 */
+	@Bean
+	public RestTemplate recommendRestTemplate(@Qualifier("recommendHttpExecutor") ExecutorService recommendHttpExecutor,
+											  @Value("${recommend.client.latency-budget-ms:500}") long latencyBudgetMillis) {
+		HttpClient httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofMillis(latencyBudgetMillis))
+			.executor(recommendHttpExecutor)
+			.build();
+
+		JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+		factory.setReadTimeout(Duration.ofMillis(latencyBudgetMillis));
+
+		return new RestTemplate(factory);
+	}
+
+	/**
+	 * 추천 서비스 HttpClient의 비동기 처리용 가상 스레드 실행기 (종료 시 함께 정리)
+	 */
+	@Bean(destroyMethod = "shutdownNow")
+	public ExecutorService recommendHttpExecutor() {
+		return Executors.newVirtualThreadPerTaskExecutor();
+	}
+}
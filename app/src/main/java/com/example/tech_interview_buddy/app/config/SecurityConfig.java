@@ -1,7 +1,9 @@
 package com.example.tech_interview_buddy.app.config;
 
 import com.example.tech_interview_buddy.app.config.JwtAuthenticationFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -23,9 +25,18 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final UserDetailsService userDetailsService;
     
+    /**
+     * BCrypt는 요청 스레드가 아닌 크기 제한 풀에서 실행한다 (가입 시 해시도 같은 풀을 쓴다)
+     * threads가 0이면 코어의 절반을 쓴다.
+     */
     @Bean
-    public org.springframework.security.crypto.password.PasswordEncoder springPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public org.springframework.security.crypto.password.PasswordEncoder springPasswordEncoder(
+            @Value("${password.hashing.threads:0}") int threads,
+            @Value("${password.hashing.queue-capacity:16}") int queueCapacity,
+            @Value("${password.hashing.wait-timeout-ms:2000}") long waitTimeoutMillis,
+            MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, waitTimeoutMillis, meterRegistry);
     }
 
     @Bean
@@ -43,9 +54,12 @@ public class SecurityConfig {
                 .requestMatchers("/actuator/**").permitAll()
                 .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/api/v1/questions").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/v1/questions/import").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.GET, "/api/v1/questions/export").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/v1/questions/{id}").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PUT, "/api/v1/questions/{id}").hasRole("ADMIN")
                 .requestMatchers("/api/v1/questions/{id}/tags/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.PUT, "/api/v1/tags/{id}").hasRole("ADMIN")
                 
                 .requestMatchers("/api/v1/questions/**").authenticated()
                 .requestMatchers("/api/v1/answers/**").authenticated()
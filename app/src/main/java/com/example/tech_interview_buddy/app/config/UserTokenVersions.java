@@ -0,0 +1,52 @@
+package com.example.tech_interview_buddy.app.config;
+
+import com.example.tech_interview_buddy.domain.event.UserRoleChangedEvent;
+import com.example.tech_interview_buddy.domain.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 토큰 버전 캐시
+ * 토큰에는 발급 시점의 버전(user.token_version)이 들어가고, 권한이 바뀌면 DB의 버전을 올려 이전 토큰을 거부한다.
+ * 요청마다 DB를 조회하지 않도록 캐싱하며, 캐시에 없으면 DB에서 읽는다 (재시작 후에도 버전이 유지된다).
+ * 권한 변경 커밋 후 이 서버의 항목은 바로 지우고, 다른 서버는 expire-after-write 안에 새 버전을 읽는다.
+ */
+@Component
+public class UserTokenVersions {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Integer> versions;
+
+    public UserTokenVersions(
+            UserRepository userRepository,
+            @Value("${jwt.token-version-cache.maximum-size:100000}") long maximumSize,
+            @Value("${jwt.token-version-cache.expire-after-write-seconds:30}") long expireAfterWriteSeconds) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .build();
+    }
+
+    /**
+     * @return 현재 토큰 버전, 사용자가 없으면 null (캐싱하지 않음)
+     */
+    public Integer current(Long userId) {
+        return versions.get(userId, id -> userRepository.findTokenVersionById(id).orElse(null));
+    }
+
+    public boolean isCurrent(Long userId, int version) {
+        Integer current = current(userId);
+        return current != null && current == version;
+    }
+
+    @TransactionalEventListener
+    public void onUserRoleChanged(UserRoleChangedEvent event) {
+        versions.invalidate(event.getUserId());
+    }
+}
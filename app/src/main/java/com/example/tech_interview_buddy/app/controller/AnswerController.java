@@ -4,7 +4,7 @@ import com.example.tech_interview_buddy.app.dto.request.CreateAnswerRequest;
 import com.example.tech_interview_buddy.app.dto.request.UpdateAnswerRequest;
 import com.example.tech_interview_buddy.app.dto.response.AnswerResponse;
 import com.example.tech_interview_buddy.domain.service.AnswerService;
-import com.example.tech_interview_buddy.domain.User;
+import com.example.tech_interview_buddy.app.config.AuthenticatedUser;
 import com.example.tech_interview_buddy.domain.Answer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -55,7 +55,7 @@ public class AnswerController {
     }
     
     private Long getCurrentUserId(HttpServletRequest request) {
-        User user = (User) request.getAttribute("currentUser");
+        AuthenticatedUser user = (AuthenticatedUser) request.getAttribute("currentUser");
         return user != null ? user.getId() : null;
     }
 }
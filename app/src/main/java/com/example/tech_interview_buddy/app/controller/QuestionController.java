@@ -7,22 +7,40 @@ import com.example.tech_interview_buddy.app.dto.request.QuestionCreateRequest;
 import com.example.tech_interview_buddy.app.dto.request.QuestionSearchRequest;
 import com.example.tech_interview_buddy.app.dto.request.QuestionUpdateRequest;
 import com.example.tech_interview_buddy.app.dto.response.QuestionDetailResponse;
+import com.example.tech_interview_buddy.app.dto.response.QuestionImportResponse;
 import com.example.tech_interview_buddy.app.dto.response.QuestionListResponse;
 import com.example.tech_interview_buddy.app.dto.response.QuestionSearchResponse;
+import com.example.tech_interview_buddy.common.domain.Category;
+import com.example.tech_interview_buddy.domain.service.AnswerService;
+import com.example.tech_interview_buddy.domain.service.ExportedQuestion;
+import com.example.tech_interview_buddy.domain.service.QuestionExportService;
+import com.example.tech_interview_buddy.domain.service.QuestionImportResult;
+import com.example.tech_interview_buddy.domain.service.QuestionImportService;
 import com.example.tech_interview_buddy.domain.service.QuestionService;
 import com.example.tech_interview_buddy.domain.service.QuestionSearchResult;
 import com.example.tech_interview_buddy.domain.service.QuestionWithAnswer;
+import com.example.tech_interview_buddy.domain.spec.QuestionCursor;
 import com.example.tech_interview_buddy.domain.spec.QuestionSearchSpec;
-import com.example.tech_interview_buddy.domain.User;
+import com.example.tech_interview_buddy.app.config.AuthenticatedUser;
 import com.example.tech_interview_buddy.app.dto.enums.SortDirection;
 import com.example.tech_interview_buddy.app.dto.enums.SortField;
+import com.example.tech_interview_buddy.app.dto.enums.TagMatch;
+import com.example.tech_interview_buddy.app.importer.QuestionImportReader;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import jakarta.servlet.http.HttpServletRequest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
 @RequestMapping("/api/v1/questions")
@@ -30,7 +48,11 @@ import java.util.List;
 public class QuestionController {
 
     private final QuestionService questionService;
+    private final AnswerService answerService;
     private final RecommendServiceClient recommendServiceClient;
+    private final QuestionImportService questionImportService;
+    private final QuestionExportService questionExportService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/search")
     public QuestionSearchResponse searchQuestions(@RequestBody QuestionSearchRequest searchRequest, HttpServletRequest request) {
@@ -38,15 +60,14 @@ public class QuestionController {
         
         QuestionSearchSpec spec = toSpec(searchRequest);
         
-        Page<QuestionSearchResult> results = questionService.searchQuestions(spec, currentUserId);
+        // 🚀 Recommend 서비스 호출을 DB 검색과 동시에 시작 (지연 예산 초과/실패 시 빈 배열)
+        RecommendRequest recommendRequest = toRecommendRequest(searchRequest.getCategory(), searchRequest.getTags(), currentUserId);
+        CompletableFuture<RecommendResponse> recommendation = recommendServiceClient.callRecommendServiceAsync(recommendRequest,
+            currentUserId != null ? answerService.getSolvedHistory(currentUserId) : null);
         
-        // Recommend 서비스 호출 (타임아웃 3초, 실패 시 빈 배열)
-        RecommendRequest recommendRequest = RecommendRequest.builder()
-            .category(searchRequest.getCategory() != null ? searchRequest.getCategory().toString() : null)
-            .tags(searchRequest.getTags())
-            .build();
+        Page<QuestionSearchResult> results = questionService.searchQuestions(spec, currentUserId);
         
-        RecommendResponse recommendResponse = recommendServiceClient.callRecommendService(recommendRequest);
+        RecommendResponse recommendResponse = recommendation.join();
         java.util.List<com.example.tech_interview_buddy.app.dto.external.RecommendedQuestion> recommendedQuestions = 
             (recommendResponse != null && recommendResponse.getRecommendedQuestions() != null)
                 ? recommendResponse.getRecommendedQuestions()
@@ -55,11 +76,11 @@ public class QuestionController {
         // Domain → DTO 변환 (contents 배열 생성)
         List<QuestionListResponse> contents = results.getContent().stream()
             .map(result -> QuestionListResponse.builder()
-                .id(result.getQuestion().getId())
-                .content(result.getQuestion().getContent())
-                .category(result.getQuestion().getCategory())
+                .id(result.getId())
+                .content(result.getContent())
+                .category(result.getCategory())
                 .isSolved(result.isSolved())
-                .createdAt(result.getQuestion().getCreatedAt())
+                .createdAt(result.getCreatedAt())
                 .tags(result.getTags())
                 .build())
             .toList();
@@ -68,6 +89,7 @@ public class QuestionController {
         return QuestionSearchResponse.builder()
             .contents(contents)
             .recommendations(recommendedQuestions)
+            .nextCursor(nextCursor(spec, results))
             .build();
     }
 
@@ -94,11 +116,11 @@ public class QuestionController {
         
         // Domain → DTO 변환
         return results.map(result -> QuestionListResponse.builder()
-            .id(result.getQuestion().getId())
-            .content(result.getQuestion().getContent())
-            .category(result.getQuestion().getCategory())
+            .id(result.getId())
+            .content(result.getContent())
+            .category(result.getCategory())
             .isSolved(result.isSolved())
-            .createdAt(result.getQuestion().getCreatedAt())
+            .createdAt(result.getCreatedAt())
             .tags(result.getTags())
             .build());
     }
@@ -132,15 +154,17 @@ public class QuestionController {
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
     public QuestionDetailResponse createQuestion(@RequestBody QuestionCreateRequest request) {
-        com.example.tech_interview_buddy.domain.Question question = 
-            questionService.createQuestion(request.getContent(), request.getCategory());
-        
+        // Recommend 서비스 호출을 질문 저장과 동시에 시작
         RecommendRequest recommendRequest = RecommendRequest.builder()
             .category(request.getCategory() != null ? request.getCategory().toString() : null)
             .tags(request.getTags())
             .build();
+        CompletableFuture<RecommendResponse> recommendation = recommendServiceClient.callRecommendServiceAsync(recommendRequest);
+        
+        com.example.tech_interview_buddy.domain.Question question = 
+            questionService.createQuestion(request.getContent(), request.getCategory(), request.getTags());
         
-        RecommendResponse recommendResponse = recommendServiceClient.callRecommendService(recommendRequest);
+        RecommendResponse recommendResponse = recommendation.join();
         
         // Domain → DTO 변환
         return QuestionDetailResponse.builder()
@@ -153,13 +177,56 @@ public class QuestionController {
             .build();
     }
 
+    /**
+     * 🚀 질문 대량 가져오기 (NDJSON/CSV 본문을 스트림으로 읽어 청크 단위 JDBC 배치 INSERT)
+     */
+    @PostMapping(value = "/import", consumes = {QuestionImportReader.NDJSON, QuestionImportReader.CSV})
+    @PreAuthorize("hasRole('ADMIN')")
+    public QuestionImportResponse importQuestions(HttpServletRequest request) throws IOException {
+        QuestionImportResult result;
+        try (QuestionImportReader reader = QuestionImportReader.open(request.getInputStream(), request.getContentType(), objectMapper)) {
+            result = questionImportService.importQuestions(reader);
+        }
+
+        // Domain → DTO 변환
+        return QuestionImportResponse.builder()
+            .importedCount(result.getImportedCount())
+            .questionTagCount(result.getQuestionTagCount())
+            .createdTagCount(result.getCreatedTagCount())
+            .elapsedMillis(result.getElapsedMillis())
+            .rowsPerSecond(result.getRowsPerSecond())
+            .build();
+    }
+
+    /**
+     * 🚀 질문 전체 내보내기 (NDJSON 스트리밍, 추천 서비스 스냅샷과 같은 형식)
+     * 페이지 조회를 반복하지 않고 id 순서 커서 하나로 끝까지 읽어 바로 응답 본문에 쓴다.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportQuestions(
+            @RequestParam(required = false) Category category,
+            @RequestParam(required = false) String tag,
+            @RequestParam(required = false) Long afterId) {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                // 줄 구분은 writeLine이 직접 쓴다 (루트 값 사이 기본 공백 구분자 제거)
+                generator.setRootValueSeparator(null);
+                questionExportService.exportQuestions(category, tag, afterId, question -> writeLine(generator, question));
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .body(body);
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public QuestionDetailResponse updateQuestion(
             @PathVariable Long id,
             @RequestBody QuestionUpdateRequest request) {
         com.example.tech_interview_buddy.domain.Question question = 
-            questionService.updateQuestion(id, request.getContent(), request.getCategory());
+            questionService.updateQuestion(id, request.getContent(), request.getCategory(), request.getTags());
         
         // Domain → DTO 변환
         return QuestionDetailResponse.builder()
@@ -178,21 +245,61 @@ public class QuestionController {
     }
     
 
+    // {"id":1,"content":"...","category":"ALGORITHM","tags":["정렬","배열"]} 한 줄
+    private void writeLine(JsonGenerator generator, ExportedQuestion question) {
+        try {
+            generator.writeStartObject();
+            generator.writeNumberField("id", question.getId());
+            generator.writeStringField("content", question.getContent());
+            generator.writeStringField("category", question.getCategory().name());
+            generator.writeArrayFieldStart("tags");
+            for (String tag : question.getTags()) {
+                generator.writeString(tag);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private QuestionSearchSpec toSpec(QuestionSearchRequest request) {
         return QuestionSearchSpec.builder()
             .category(request.getCategory())
             .keyword(request.getKeyword())
             .tags(request.getTags())
+            .matchAllTags(request.getTagMatch() == TagMatch.ALL)
             .isSolved(request.getIsSolved())
             .page(request.getPage())
             .size(request.getSize())
             .sortField(request.getSort() != null ? request.getSort().getFieldName() : "id")
             .sortDirection(request.getDirection() != null ? request.getDirection().getDirection() : "asc")
+            .cursor(request.getCursor())
+            .build();
+    }
+
+    /**
+     * 로그인 사용자는 풀이 이력으로 푼 질문을 빼고 약한 태그 위주로 추천받는다 (이력 인코딩은 클라이언트 캐시 미스 때만)
+     */
+    private RecommendRequest toRecommendRequest(Category category, List<String> tags, Long currentUserId) {
+        return RecommendRequest.builder()
+            .category(category != null ? category.toString() : null)
+            .tags(tags)
+            .userId(currentUserId)
             .build();
     }
+
+    private String nextCursor(QuestionSearchSpec spec, Page<QuestionSearchResult> results) {
+        if (!results.hasNext() || results.getContent().isEmpty()) {
+            return null;
+        }
+        QuestionSearchResult last = results.getContent().get(results.getContent().size() - 1);
+        return QuestionCursor.of(spec.getSortField(), spec.getSortDirection(), last).encode();
+    }
     
     private Long getCurrentUserId(HttpServletRequest request) {
-        User user = (User) request.getAttribute("currentUser");
+        AuthenticatedUser user = (AuthenticatedUser) request.getAttribute("currentUser");
         return user != null ? user.getId() : null;
     }
 
@@ -0,0 +1,53 @@
+package com.example.tech_interview_buddy.app.controller;
+
+import com.example.tech_interview_buddy.app.dto.request.TagRequest;
+import com.example.tech_interview_buddy.app.dto.response.TagResponse;
+import com.example.tech_interview_buddy.app.dto.response.TagSuggestionResponse;
+import com.example.tech_interview_buddy.domain.Tag;
+import com.example.tech_interview_buddy.domain.service.TagService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/tags")
+@RequiredArgsConstructor
+public class TagController {
+
+    private final TagService tagService;
+
+    /**
+     * 🚀 태그 자동완성 (메모리 트라이에서 바로 응답, 키 입력마다 DB 조회 없음)
+     */
+    @GetMapping("/suggest")
+    public List<TagSuggestionResponse> suggestTags(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        // Domain → DTO 변환
+        return tagService.suggestTags(prefix, limit).stream()
+            .map(suggestion -> TagSuggestionResponse.builder()
+                .id(suggestion.getId())
+                .name(suggestion.getName())
+                .questionCount(suggestion.getQuestionCount())
+                .build())
+            .toList();
+    }
+
+    /**
+     * 태그 이름 변경 (커밋 후 태그 사전/자동완성에 반영)
+     */
+    @PutMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public TagResponse renameTag(@PathVariable Long id, @RequestBody TagRequest request) {
+        Tag tag = tagService.renameTag(id, request.getName());
+
+        // Domain → DTO 변환
+        return TagResponse.builder()
+            .id(tag.getId())
+            .name(tag.getName())
+            .description(tag.getDescription())
+            .build();
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.tech_interview_buddy.app.controller;
 
 import com.example.tech_interview_buddy.app.config.JwtTokenProvider;
+import com.example.tech_interview_buddy.domain.service.RefreshTokenService;
+import com.example.tech_interview_buddy.domain.service.RotatedRefreshToken;
 import com.example.tech_interview_buddy.domain.service.UserService;
+import com.example.tech_interview_buddy.app.dto.request.TokenRefreshRequest;
 import com.example.tech_interview_buddy.app.dto.request.UserCreateRequest;
 import com.example.tech_interview_buddy.app.dto.request.UserLoginRequest;
 import com.example.tech_interview_buddy.app.dto.response.UserLoginResponse;
@@ -24,6 +27,7 @@ import java.util.stream.Collectors;
 public class UserController {
 
     private final UserService userService;
+    private final RefreshTokenService refreshTokenService;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManager authenticationManager;
 
@@ -59,10 +63,28 @@ public class UserController {
         );
 
         SecurityContextHolder.getContext().setAuthentication(authentication);
-        String jwt = jwtTokenProvider.generateToken(authentication);
+        // 토큰 클레임에 넣을 사용자 ID/권한 (로그인 때 한 번만 조회)
+        User user = userService.findByUsername(authentication.getName())
+            .orElseThrow(() -> new IllegalArgumentException("User not found"));
+        String jwt = jwtTokenProvider.generateToken(user);
 
         return UserLoginResponse.builder()
             .token(jwt)
+            .refreshToken(refreshTokenService.issue(user))
+            .build();
+    }
+
+    /**
+     * 리프레시 토큰으로 액세스 토큰을 재발급한다 (BCrypt 검증 없음)
+     * 리프레시 토큰은 한 번 쓰면 교체되므로 응답의 새 리프레시 토큰을 저장해야 한다.
+     */
+    @PostMapping("/token/refresh")
+    public UserLoginResponse refreshToken(@RequestBody TokenRefreshRequest tokenRefreshRequest) {
+        RotatedRefreshToken rotated = refreshTokenService.rotate(tokenRefreshRequest.getRefreshToken());
+
+        return UserLoginResponse.builder()
+            .token(jwtTokenProvider.generateToken(rotated.getUser()))
+            .refreshToken(rotated.getRefreshToken())
             .build();
     }
 
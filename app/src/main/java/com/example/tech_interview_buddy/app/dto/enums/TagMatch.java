@@ -0,0 +1,35 @@
+package com.example.tech_interview_buddy.app.dto.enums;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+
+public enum TagMatch {
+    ANY("any"),
+    ALL("all");
+
+    private final String mode;
+
+    TagMatch(String mode) {
+        this.mode = mode;
+    }
+
+    @JsonValue
+    public String getMode() {
+        return mode;
+    }
+
+    @JsonCreator
+    public static TagMatch fromString(String mode) {
+        if (mode == null) {
+            return ANY;
+        }
+
+        for (TagMatch tagMatch : TagMatch.values()) {
+            if (tagMatch.mode.equalsIgnoreCase(mode)) {
+                return tagMatch;
+            }
+        }
+        return ANY;
+    }
+}
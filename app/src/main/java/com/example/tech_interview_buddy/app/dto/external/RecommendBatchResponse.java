@@ -0,0 +1,19 @@
+package com.example.tech_interview_buddy.app.dto.external;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 배치 추천 응답 (요청 순서와 같은 순서)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendBatchResponse {
+	private List<RecommendResponse> responses;
+}
@@ -0,0 +1,25 @@
+package com.example.tech_interview_buddy.app.dto.external;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendRequest {
+	private String category;
+	private List<String> tags;
+	/**
+	 * 개인화용 사용자 ID (선택)
+	 */
+	private Long userId;
+	/**
+	 * 사용자가 푼 질문 ID ({@link com.example.tech_interview_buddy.recommend.engine.SolvedHistoryCodec} 인코딩, 선택)
+	 */
+	private String solvedQuestionIds;
+}
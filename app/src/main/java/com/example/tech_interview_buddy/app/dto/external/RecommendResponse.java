@@ -0,0 +1,26 @@
+package com.example.tech_interview_buddy.app.dto.external;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Collections;
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendResponse {
+	private List<RecommendedQuestion> recommendedQuestions;
+
+	/**
+	 * 추천 서비스 장애/지연 시 대신 돌려줄 빈 응답
+	 */
+	public static RecommendResponse empty() {
+		return RecommendResponse.builder()
+			.recommendedQuestions(Collections.emptyList())
+			.build();
+	}
+}
@@ -0,0 +1,16 @@
+package com.example.tech_interview_buddy.app.dto.external;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendedQuestion {
+	private Long id;
+	private String content;
+	private String category;
+}
@@ -3,6 +3,7 @@ package com.example.tech_interview_buddy.app.dto.request;
 import com.example.tech_interview_buddy.common.domain.Category;
 import com.example.tech_interview_buddy.app.dto.enums.SortDirection;
 import com.example.tech_interview_buddy.app.dto.enums.SortField;
+import com.example.tech_interview_buddy.app.dto.enums.TagMatch;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -16,6 +17,9 @@ public class QuestionSearchRequest {
     private java.util.List<String> tags;
     private Boolean isSolved;
 
+    @Builder.Default
+    private TagMatch tagMatch = TagMatch.ANY;
+
     @Builder.Default
     private int page = 0;
 
@@ -27,6 +31,9 @@ public class QuestionSearchRequest {
 
     @Builder.Default
     private SortDirection direction = SortDirection.ASC;
+
+    // 이전 응답의 nextCursor (무한 스크롤 시 page 대신 사용)
+    private String cursor;
 }
 
 // 1. 테스트 코드 (QuestionRepository, utils쪽 builder 관련)
@@ -0,0 +1,16 @@
+package com.example.tech_interview_buddy.app.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Builder;
+
+@Getter
+@NoArgsConstructor
+public class TokenRefreshRequest {
+    private String refreshToken;
+
+    @Builder
+    public TokenRefreshRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.tech_interview_buddy.app.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class QuestionImportResponse {
+
+    private long importedCount;
+    private long questionTagCount;
+    private long createdTagCount;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+}
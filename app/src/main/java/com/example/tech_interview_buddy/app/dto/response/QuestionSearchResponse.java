@@ -12,6 +12,7 @@ public class QuestionSearchResponse {
     
     private List<QuestionListResponse> contents;  // 문제 객체들의 배열
     private List<RecommendedQuestion> recommendations;  // 추천 질문 목록
+    private String nextCursor;  // 다음 페이지 조회용 커서 (마지막 페이지면 null)
 }
 
 
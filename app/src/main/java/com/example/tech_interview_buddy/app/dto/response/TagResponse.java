@@ -0,0 +1,18 @@
+package com.example.tech_interview_buddy.app.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class TagResponse {
+    private final Long id;
+    private final String name;
+    private final String description;
+
+    @Builder
+    public TagResponse(Long id, String name, String description) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.tech_interview_buddy.app.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+public class TagSuggestionResponse {
+    private final Long id;
+    private final String name;
+    private final long questionCount;
+
+    @Builder
+    public TagSuggestionResponse(Long id, String name, long questionCount) {
+        this.id = id;
+        this.name = name;
+        this.questionCount = questionCount;
+    }
+}
@@ -7,4 +7,5 @@ import lombok.Builder;
 @Builder
 public class UserLoginResponse {
     private String token;
+    private String refreshToken;
 }
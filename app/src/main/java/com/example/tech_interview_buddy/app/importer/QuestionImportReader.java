@@ -0,0 +1,216 @@
+package com.example.tech_interview_buddy.app.importer;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+import com.example.tech_interview_buddy.domain.service.QuestionImportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * 업로드 본문을 한 행씩 읽어 가져오기 입력으로 바꾼다 (전체를 메모리에 올리지 않음)
+ * NDJSON: 줄마다 {"content": ..., "category": ..., "tags": [...]}
+ * CSV: 첫 줄은 헤더(content,category,tags), tags는 '|'로 구분, 큰따옴표 필드 안의 줄바꿈 허용
+ */
+public class QuestionImportReader implements Iterator<QuestionImportRow>, Closeable {
+
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String CSV = "text/csv";
+
+    private static final String TAG_SEPARATOR = "|";
+
+    private final BufferedReader reader;
+    private final boolean csv;
+    private final ObjectMapper objectMapper;
+    private long lineNumber;
+    private int[] csvColumns;
+    private QuestionImportRow next;
+
+    private QuestionImportReader(InputStream input, boolean csv, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 1 << 16);
+        this.csv = csv;
+        this.objectMapper = objectMapper;
+    }
+
+    public static QuestionImportReader open(InputStream input, String contentType, ObjectMapper objectMapper) {
+        String mediaType = contentType != null ? contentType.split(";")[0].trim().toLowerCase(Locale.ROOT) : "";
+        if (!mediaType.equals(NDJSON) && !mediaType.equals(CSV)) {
+            throw new IllegalArgumentException("Unsupported import content type: " + contentType);
+        }
+        return new QuestionImportReader(input, mediaType.equals(CSV), objectMapper);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null) {
+            try {
+                next = csv ? readCsvRow() : readJsonRow();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return next != null;
+    }
+
+    @Override
+    public QuestionImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        QuestionImportRow row = next;
+        next = null;
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private QuestionImportRow readJsonRow() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": invalid JSON");
+            }
+            List<String> tags = new ArrayList<>();
+            for (JsonNode tag : node.path("tags")) {
+                addTag(tags, tag.asText());
+            }
+            return toRow(lineNumber, textOrNull(node.get("content")), textOrNull(node.get("category")), tags);
+        }
+        return null;
+    }
+
+    private QuestionImportRow readCsvRow() throws IOException {
+        if (csvColumns == null) {
+            List<String> header = readCsvRecord();
+            if (header == null) {
+                return null;
+            }
+            csvColumns = new int[] {header.indexOf("content"), header.indexOf("category"), header.indexOf("tags")};
+            if (csvColumns[0] < 0 || csvColumns[1] < 0) {
+                throw new IllegalArgumentException("CSV header must contain content and category columns");
+            }
+        }
+
+        List<String> fields;
+        long recordLine;
+        do {
+            recordLine = lineNumber + 1;
+            fields = readCsvRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        List<String> tags = new ArrayList<>();
+        String tagField = column(fields, csvColumns[2]);
+        if (tagField != null) {
+            Arrays.stream(tagField.split("\\" + TAG_SEPARATOR)).forEach(tag -> addTag(tags, tag));
+        }
+        return toRow(recordLine, column(fields, csvColumns[0]), column(fields, csvColumns[1]), tags);
+    }
+
+    /**
+     * CSV 레코드 하나 (RFC 4180: 큰따옴표 필드 안의 쉼표/줄바꿈, "" 이스케이프)
+     */
+    private List<String> readCsvRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": unterminated quoted field");
+            }
+            lineNumber++;
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static QuestionImportRow toRow(long lineNumber, String content, String category, List<String> tags) {
+        return QuestionImportRow.builder()
+            .lineNumber(lineNumber)
+            .content(content)
+            .category(parseCategory(lineNumber, category))
+            .tags(tags)
+            .build();
+    }
+
+    private static Category parseCategory(long lineNumber, String category) {
+        if (category == null || category.isBlank()) {
+            return null;
+        }
+        try {
+            return Category.valueOf(category.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": unknown category " + category);
+        }
+    }
+
+    private static void addTag(List<String> tags, String tag) {
+        String name = tag.trim();
+        if (!name.isEmpty()) {
+            tags.add(name);
+        }
+    }
+
+    private static String column(List<String> fields, int index) {
+        return index >= 0 && index < fields.size() ? fields.get(index) : null;
+    }
+
+    private static String textOrNull(JsonNode node) {
+        return node != null && !node.isNull() ? node.asText() : null;
+    }
+}
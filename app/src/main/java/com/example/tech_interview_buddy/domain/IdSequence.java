@@ -0,0 +1,16 @@
+package com.example.tech_interview_buddy.domain;
+
+/**
+ * 테이블 기반 id 할당 설정 (hibernate.id.optimizer.pooled.preferred=pooled-lo)
+ * next_val에는 마지막으로 할당한 id가 저장되며, 한 번 조회할 때 ALLOCATION_SIZE만큼 구간을 가져가 메모리에서 나눠 준다.
+ */
+public final class IdSequence {
+
+    public static final String TABLE = "id_sequence";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 1000;
+
+    private IdSequence() {
+    }
+}
@@ -17,6 +17,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Builder;
@@ -28,7 +29,11 @@ import lombok.Builder;
 @EntityListeners(AuditingEntityListener.class)
 public class Question {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 🚀 IDENTITY는 INSERT마다 키를 받아와야 해 JDBC 배치가 꺼지므로, 테이블에서 id 구간을 한 번에 할당받는다 (pooled-lo)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "question_id")
+    @TableGenerator(name = "question_id", table = IdSequence.TABLE,
+        pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+        pkColumnValue = "question", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @Column(columnDefinition = "TEXT", nullable = false)
@@ -15,6 +15,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Builder;
@@ -26,7 +27,11 @@ import lombok.Builder;
 @EntityListeners(AuditingEntityListener.class)
 public class QuestionTag {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // 🚀 대량 가져오기 시 연결 INSERT도 배치로 묶이도록 Question과 같은 방식으로 id 구간을 할당받는다
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "question_tag_id")
+    @TableGenerator(name = "question_tag_id", table = IdSequence.TABLE,
+        pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+        pkColumnValue = "question_tag", allocationSize = IdSequence.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
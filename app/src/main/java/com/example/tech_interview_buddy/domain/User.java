@@ -39,6 +39,12 @@ public class User {
     @Column(nullable = false)
     private UserRole role = UserRole.USER;
 
+    /**
+     * 토큰 버전 (권한이 바뀔 때마다 올려 이전에 발급된 토큰을 무효화한다)
+     */
+    @Column(nullable = false)
+    private int tokenVersion = 0;
+
     @Builder
     public User(String username, String password, String email) {
         this.username = username;
@@ -58,4 +64,8 @@ public class User {
     public void updateRole(UserRole role) {
         this.role = role;
     }
+
+    public void increaseTokenVersion() {
+        this.tokenVersion++;
+    }
 }
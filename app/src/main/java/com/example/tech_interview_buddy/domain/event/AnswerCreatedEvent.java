@@ -0,0 +1,14 @@
+package com.example.tech_interview_buddy.domain.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 답변 생성 이벤트 (사용자가 질문을 풀었음)
+ */
+@Getter
+@Builder
+public class AnswerCreatedEvent {
+    private Long userId;
+    private Long questionId;
+}
@@ -0,0 +1,14 @@
+package com.example.tech_interview_buddy.domain.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 답변 삭제 이벤트
+ */
+@Getter
+@Builder
+public class AnswerDeletedEvent {
+    private Long userId;
+    private Long questionId;
+}
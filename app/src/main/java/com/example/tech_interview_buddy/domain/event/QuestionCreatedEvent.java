@@ -0,0 +1,17 @@
+package com.example.tech_interview_buddy.domain.event;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 질문 생성 이벤트
+ * 인메모리 인덱스들이 커밋 이후 증분 갱신에 사용한다
+ */
+@Getter
+@Builder
+public class QuestionCreatedEvent {
+    private Long questionId;
+    private String content;
+    private Category category;
+}
@@ -0,0 +1,19 @@
+package com.example.tech_interview_buddy.domain.event;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 질문 삭제 이벤트
+ */
+@Getter
+@Builder
+public class QuestionDeletedEvent {
+    private Long questionId;
+    private String content;
+    private Category category;
+    private List<Long> tagIds;  // 태그별 카운터 조정용
+}
@@ -0,0 +1,21 @@
+package com.example.tech_interview_buddy.domain.event;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Set;
+
+/**
+ * 질문-태그 연결 변경 이벤트
+ * 추가/삭제된 태그 ID만 담아 인덱스가 차이만큼만 갱신하도록 한다
+ * 카테고리×태그 카운터 갱신을 위해 질문의 카테고리도 함께 담는다
+ */
+@Getter
+@Builder
+public class QuestionTagsChangedEvent {
+    private Long questionId;
+    private Category category;
+    private Set<Long> addedTagIds;
+    private Set<Long> removedTagIds;
+}
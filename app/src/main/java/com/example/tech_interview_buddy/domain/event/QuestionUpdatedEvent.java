@@ -0,0 +1,22 @@
+package com.example.tech_interview_buddy.domain.event;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 질문 수정 이벤트
+ * 이전 값을 함께 담아 인덱스가 기존 항목을 지울 수 있도록 한다
+ */
+@Getter
+@Builder
+public class QuestionUpdatedEvent {
+    private Long questionId;
+    private String previousContent;
+    private String content;
+    private Category previousCategory;
+    private Category category;
+    private List<Long> tagIds;  // 태그별 카운터 조정용
+}
@@ -0,0 +1,14 @@
+package com.example.tech_interview_buddy.domain.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 태그 생성 이벤트
+ */
+@Getter
+@Builder
+public class TagCreatedEvent {
+    private Long tagId;
+    private String name;
+}
@@ -0,0 +1,15 @@
+package com.example.tech_interview_buddy.domain.event;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 태그 이름 변경 이벤트
+ */
+@Getter
+@Builder
+public class TagRenamedEvent {
+    private Long tagId;
+    private String previousName;
+    private String name;
+}
@@ -0,0 +1,15 @@
+package com.example.tech_interview_buddy.domain.event;
+
+import com.example.tech_interview_buddy.domain.UserRole;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 사용자 권한 변경 이벤트 (이전 권한으로 발급된 토큰 무효화용)
+ */
+@Getter
+@Builder
+public class UserRoleChangedEvent {
+    private Long userId;
+    private UserRole role;
+}
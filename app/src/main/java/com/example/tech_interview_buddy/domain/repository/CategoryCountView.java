@@ -0,0 +1,11 @@
+package com.example.tech_interview_buddy.domain.repository;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+
+/**
+ * 인메모리 카운터 적재용 카테고리별 집계 프로젝션
+ */
+public interface CategoryCountView {
+    Category getCategory();
+    Long getQuestionCount();
+}
@@ -0,0 +1,126 @@
+package com.example.tech_interview_buddy.domain.repository;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+import com.example.tech_interview_buddy.domain.service.ExportedQuestion;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+/**
+ * 질문 내보내기용 전방향 JDBC 커서 조회 (영속성 컨텍스트를 거치지 않음)
+ * 질문과 질문-태그 연결을 LEFT JOIN 한 문장으로 question.id 순서로 읽어 질문 단위로 묶는다.
+ * 한 문장이라 질문과 태그가 같은 시점의 스냅샷에서 나오고, 청크별 IN 조회 없이 메모리 사용량이 일정하다.
+ * 정렬은 question.id만 건다: 묶는 데는 질문별 행이 연속이기만 하면 되고, 조인 테이블 컬럼까지 정렬하면
+ * MySQL이 조인 결과 전체(질문마다 반복되는 TEXT 포함)를 임시 테이블에 모아 filesort한 뒤에야 첫 행을 보낸다.
+ * question PK 순서로 훑으면서 question_tag는 question_id 인덱스로 ref 조회하므로 "Using temporary; Using filesort"가 없다.
+ * MySQL(Connector/J)은 fetchSize가 Integer.MIN_VALUE일 때만 행 단위로 스트리밍하고, 그 밖의 값은 무시한 채 결과 전체를 메모리에 올린다.
+ * 그래서 스트리밍 여부는 DB 메타데이터로 추측하지 않고 설정(question.export.row-streaming, 기본 true)으로 정한다.
+ */
+@Repository
+public class QuestionExportRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param rowStreaming MySQL 행 단위 스트리밍 사용 (MySQL이 아닌 DB에서만 끄고 fetchSize를 쓴다)
+     */
+    public QuestionExportRepository(DataSource dataSource,
+                                    @Value("${question.export.row-streaming:true}") boolean rowStreaming,
+                                    @Value("${question.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(rowStreaming ? Integer.MIN_VALUE : fetchSize);
+    }
+
+    /**
+     * 조건에 맞는 질문을 id 오름차순으로 태그와 함께 하나씩 넘긴다.
+     *
+     * @param category 카테고리 조건 (null이면 전체)
+     * @param tagId 이 태그가 붙은 질문만 (null이면 전체)
+     * @param afterId 이 id보다 큰 질문부터 (이어받기용, null이면 처음부터)
+     * @param tagNames 태그 ID → 이름
+     */
+    public void forEach(Category category, Long tagId, Long afterId,
+                        LongFunction<String> tagNames, Consumer<ExportedQuestion> action) {
+        try (Stream<ExportRow> rows = jdbcTemplate.queryForStream(
+                 "SELECT q.id, q.content, q.category, qt.tag_id FROM question q"
+                     + " LEFT JOIN question_tag qt ON qt.question_id = q.id"
+                     + " WHERE " + filter(category, tagId) + " ORDER BY q.id",
+                 (rs, rowNum) -> new ExportRow(rs.getLong(1), rs.getString(2), rs.getString(3), rs.getObject(4, Long.class)),
+                 bindings(category, tagId, afterId))) {
+
+            ExportedQuestion current = null;
+            List<String> tags = new ArrayList<>();
+            Iterator<ExportRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                ExportRow row = iterator.next();
+                // 같은 질문의 행은 연속해서 오므로 id가 바뀔 때 앞 질문을 넘긴다
+                if (current == null || current.getId() != row.questionId()) {
+                    if (current != null) {
+                        action.accept(withTags(current, tags));
+                        tags = new ArrayList<>();
+                    }
+                    current = ExportedQuestion.builder()
+                        .id(row.questionId())
+                        .content(row.content())
+                        .category(Category.valueOf(row.category()))
+                        .build();
+                }
+                if (row.tagId() != null) {
+                    String name = tagNames.apply(row.tagId());
+                    if (name != null) {
+                        tags.add(name);
+                    }
+                }
+            }
+            if (current != null) {
+                action.accept(withTags(current, tags));
+            }
+        }
+    }
+
+    private static ExportedQuestion withTags(ExportedQuestion question, List<String> tags) {
+        return ExportedQuestion.builder()
+            .id(question.getId())
+            .content(question.getContent())
+            .category(question.getCategory())
+            .tags(tags)
+            .build();
+    }
+
+    private static String filter(Category category, Long tagId) {
+        StringBuilder where = new StringBuilder("q.id > ?");
+        if (category != null) {
+            where.append(" AND q.category = ?");
+        }
+        if (tagId != null) {
+            where.append(" AND EXISTS (SELECT 1 FROM question_tag f WHERE f.question_id = q.id AND f.tag_id = ?)");
+        }
+        return where.toString();
+    }
+
+    private static Object[] bindings(Category category, Long tagId, Long afterId) {
+        List<Object> args = new ArrayList<>();
+        args.add(afterId != null ? afterId : 0L);
+        if (category != null) {
+            args.add(category.name());
+        }
+        if (tagId != null) {
+            args.add(tagId);
+        }
+        return args.toArray();
+    }
+
+    /**
+     * 조인 결과 한 행 (태그가 없는 질문은 tagId가 null)
+     */
+    private record ExportRow(long questionId, String content, String category, Long tagId) {
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.tech_interview_buddy.domain.repository;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+
+/**
+ * 인메모리 인덱스 적재용 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않음)
+ */
+public interface QuestionIndexView {
+    Long getId();
+    String getContent();
+    Category getCategory();
+}
@@ -1,9 +1,33 @@
 package com.example.tech_interview_buddy.domain.repository;
 
 import com.example.tech_interview_buddy.domain.Question;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface QuestionRepository extends JpaRepository<Question, Long>, QuestionRepositoryCustom {
-}
\ No newline at end of file
+
+    /**
+     * 인메모리 인덱스 적재용으로 id 이후의 질문을 id 순서대로 조회합니다.
+     * OFFSET 없이 lastId 기준으로 끊어 읽습니다.
+     *
+     * @param lastId 직전 청크의 마지막 ID (처음엔 0)
+     * @param pageable 청크 크기
+     * @return 질문 프로젝션 리스트
+     */
+    @Query("SELECT q.id AS id, q.content AS content, q.category AS category FROM Question q WHERE q.id > :lastId ORDER BY q.id")
+    List<QuestionIndexView> findIndexViewsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 인메모리 카운터 적재용으로 카테고리별 질문 수를 집계합니다.
+     *
+     * @return 카테고리별 질문 수 프로젝션 리스트
+     */
+    @Query("SELECT q.category AS category, COUNT(q) AS questionCount FROM Question q GROUP BY q.category")
+    List<CategoryCountView> countByCategory();
+}
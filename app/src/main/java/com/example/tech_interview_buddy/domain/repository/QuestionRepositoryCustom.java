@@ -1,7 +1,8 @@
 package com.example.tech_interview_buddy.domain.repository;
 
-import com.example.tech_interview_buddy.domain.Question;
+import com.example.tech_interview_buddy.domain.service.QuestionSearchResult;
 import com.example.tech_interview_buddy.domain.spec.QuestionSearchSpec;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -10,13 +11,15 @@ public interface QuestionRepositoryCustom {
 
     /**
      * 동적 쿼리를 사용하여 복합 조건으로 질문을 검색합니다.
+     * 태그 이름과 현재 사용자의 풀이 여부까지 담은 프로젝션으로 반환합니다.
      *
      * @param spec 검색 조건 스펙
      * @param pageable 페이징 정보
      * @param currentUserId 현재 사용자 ID (isSolved 필터링용)
+     * @param keywordCandidateIds 검색 엔진이 구한 키워드 후보 ID (null이면 DB LIKE로만 필터링)
      * @return 검색 결과
      */
-    Page<Question> searchQuestions(QuestionSearchSpec spec, Pageable pageable, Long currentUserId);
+    Page<QuestionSearchResult> searchQuestions(QuestionSearchSpec spec, Pageable pageable, Long currentUserId, Roaring64Bitmap keywordCandidateIds);
     
     /**
      * 동적 쿼리를 사용하여 검색 조건에 맞는 질문의 총 개수를 반환합니다.
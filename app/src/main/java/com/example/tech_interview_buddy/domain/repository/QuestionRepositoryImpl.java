@@ -1,29 +1,51 @@
 package com.example.tech_interview_buddy.domain.repository;
 
-import com.example.tech_interview_buddy.domain.Question;
-
 import static com.example.tech_interview_buddy.domain.QAnswer.answer;
 import static com.example.tech_interview_buddy.domain.QQuestion.question;
 import static com.example.tech_interview_buddy.domain.QQuestionTag.questionTag;
 import static com.example.tech_interview_buddy.domain.QTag.tag;
 
+import com.example.tech_interview_buddy.common.domain.Category;
+import com.example.tech_interview_buddy.domain.QAnswer;
+import com.example.tech_interview_buddy.domain.QQuestionTag;
+import com.example.tech_interview_buddy.domain.search.QuestionFilterIndex;
+import com.example.tech_interview_buddy.domain.search.SolvedQuestionCache;
+import com.example.tech_interview_buddy.domain.search.TagDictionary;
+import com.example.tech_interview_buddy.domain.service.QuestionSearchResult;
+import com.example.tech_interview_buddy.domain.spec.QuestionCursor;
 import com.example.tech_interview_buddy.domain.spec.QuestionSearchSpec;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.example.tech_interview_buddy.domain.repository.util.QueryDslPredicateBuilder;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 
 import com.querydsl.core.types.OrderSpecifier;
 import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.longlong.PeekableLongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -35,76 +57,100 @@ public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
     private EntityManager entityManager;
 
     private final QuestionTagRepository questionTagRepository;
+    private final QuestionFilterIndex questionFilterIndex;
+    private final SolvedQuestionCache solvedQuestionCache;
+    private final TagDictionary tagDictionary;
+
+    /**
+     * 후보 ID를 IN 조건으로 넘길 최대 개수
+     * 이보다 많으면 IN 목록 자체가 부담이 되므로 후보를 쓰지 않고 SQL 조건(EXISTS/LIKE)으로 필터링한다
+     */
+    private static final int MAX_CANDIDATE_IDS = 5_000;
+
+    /**
+     * 검색 결과 프로젝션용 별칭
+     * 태그/풀이 여부 필터의 EXISTS 서브쿼리가 기본 별칭(questionTag, tag, answer)을 쓰므로 겹치지 않게 따로 둔다
+     */
+    private static final QQuestionTag resultQuestionTag = new QQuestionTag("resultQuestionTag");
+    private static final QAnswer myAnswer = new QAnswer("myAnswer");
+
+    /**
+     * 태그 이름에는 구분자가 들어갈 수 있으므로 숫자인 태그 ID만 집계하고 이름은 TagDictionary에서 찾는다
+     */
+    private static final String TAG_SEPARATOR = ",";
+    private static final StringExpression TAG_IDS =
+            Expressions.stringTemplate("listagg(distinct str({0}), '" + TAG_SEPARATOR + "')", resultQuestionTag.tag.id);
+    private static final NumberExpression<Long> MY_ANSWER_ID = myAnswer.id.max();
+
+    /**
+     * 내용 정렬은 앞부분(접두사)만 키로 쓰고 나머지 순서는 id로 정한다.
+     * 커서에 TEXT 전체를 싣지 않도록 정렬 키와 커서 값의 길이를 같이 제한한다.
+     */
+    private static final StringExpression CONTENT_SORT_KEY =
+            question.content.substring(0, QuestionCursor.CONTENT_KEY_LENGTH);
 
     private static final Map<String, Function<Boolean, OrderSpecifier<?>>> SORT_MAPPINGS = Map.of(
             "id", ascending -> ascending ? question.id.asc() : question.id.desc(),
-            "content", ascending -> ascending ? question.content.asc() : question.content.desc(),
+            "content", ascending -> ascending ? CONTENT_SORT_KEY.asc() : CONTENT_SORT_KEY.desc(),
             "category", ascending -> ascending ? question.category.asc() : question.category.desc(),
             "createdAt", ascending -> ascending ? question.createdAt.asc() : question.createdAt.desc(),
-            "updatedAt", ascending -> ascending ? question.updatedAt.asc() : question.updatedAt.desc()
+            "updatedAt", ascending -> ascending ? question.updatedAt.asc() : question.updatedAt.desc(),
+            "isSolved", ascending -> ascending ? question.isSolved.asc() : question.isSolved.desc()
     );
 
     @Override
-    public Page<Question> searchQuestions(QuestionSearchSpec spec, Pageable pageable, Long currentUserId) {
-        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
-
-        // 🚀 2단계 쿼리 최적화: 태그 조건이 있으면 서브쿼리로 ID만 먼저 조회
-        if (spec.getTags() != null && !spec.getTags().isEmpty()) {
-            // 1단계: 모든 조건 + 정렬 + 페이징 적용한 ID 목록 조회
-            List<Long> pagedQuestionIds = findQuestionIdsByConditions(spec, pageable, currentUserId, queryFactory);
+    public Page<QuestionSearchResult> searchQuestions(QuestionSearchSpec spec, Pageable pageable, Long currentUserId, Roaring64Bitmap keywordCandidateIds) {
+        // 🚀 사전에 없는 태그 이름이면 결과가 없으므로 쿼리 없이 끝낸다
+        if (hasNoMatchingTag(spec)) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
 
-            // ID가 없으면 빈 결과 반환
-            if (pagedQuestionIds.isEmpty()) {
-                return new PageImpl<>(Collections.emptyList(), pageable, 0);
-            }
+        JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
+        QuestionCursor cursor = resolveCursor(spec, pageable);
 
-            // 2단계: 조회된 ID로 Question 엔티티 가져오기 (정렬 순서 유지)
-            JPAQuery<Question> query = queryFactory.selectFrom(question)
-                    .where(question.id.in(pagedQuestionIds));
-
-            // ID 순서대로 정렬 (1단계 쿼리의 순서 유지)
-            if (pageable.getSort().isSorted()) {
-                pageable.getSort().forEach(order -> {
-                    Function<Boolean, OrderSpecifier<?>> sortFunction = SORT_MAPPINGS.get(order.getProperty());
-                    if (sortFunction != null) {
-                        query.orderBy(sortFunction.apply(order.isAscending()));
-                    }
-                });
-            } else {
-                query.orderBy(question.id.asc());
-            }
+        // 🚀 태그/카테고리 조건은 비트맵 인덱스에서 교집합(ALL)/합집합(ANY)으로 먼저 계산
+        Roaring64Bitmap filteredIds = questionFilterIndex
+                .match(spec.getCategory(), spec.getTags(), spec.isMatchAllTags())
+                .orElse(null);
 
-            List<Question> questions = query.fetch();
+        // 🚀 풀이 여부는 사용자별 풀이 비트맵 캐시로 처리 (answer 테이블 EXISTS 회피)
+        Roaring64Bitmap solvedIds = findSolvedIds(spec, currentUserId);
+        filteredIds = applySolvedFilter(filteredIds, solvedIds, spec.getIsSolved());
 
-            // hasNextPage는 1단계에서 limit+1로 판단
-            boolean hasNextPage = pagedQuestionIds.size() > pageable.getPageSize();
+        Roaring64Bitmap candidateIds = intersect(filteredIds, keywordCandidateIds);
+        if (candidateIds != null && candidateIds.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
 
-            return new PageImpl<>(questions, pageable, hasNextPage ? pageable.getOffset() + questions.size() + 1 : pageable.getOffset() + questions.size());
+        // 키워드/풀이 여부 조건 없이 id로 정렬하면 비트맵만으로 페이지 ID가 정해진다 (DB는 PK 조회만)
+        if (filteredIds != null && isBitmapOnly(spec, solvedIds) && isIdOrder(pageable)) {
+            return fetchByPagedIds(queryFactory, pageIdsFromBitmap(filteredIds, pageable, cursor), pageable, currentUserId);
         }
 
-        // 태그 조건이 없으면 기존 방식대로
-        JPAQuery<Question> query = queryFactory.selectFrom(question);
-        query.where(buildPredicatesWithoutTags(spec, currentUserId));
+        // 후보가 충분히 작으면 태그 EXISTS/카테고리 조건 대신 PK 목록으로 좁힌다
+        boolean filtersResolved = filteredIds != null && candidateIds.getLongCardinality() <= MAX_CANDIDATE_IDS;
+        BooleanBuilder predicates = buildPredicates(spec, currentUserId, candidateIds, solvedIds, filtersResolved);
 
-        // 정렬
-        if (pageable.getSort().isSorted()) {
-            pageable.getSort().forEach(order -> {
-                Function<Boolean, OrderSpecifier<?>> sortFunction = SORT_MAPPINGS.get(order.getProperty());
-                if (sortFunction != null) {
-                    query.orderBy(sortFunction.apply(order.isAscending()));
-                } else {
-                    query.orderBy(question.id.asc());
-                }
-            });
-        } else {
-            query.orderBy(question.id.asc());
+        // 🚀 2단계 쿼리 최적화: 태그 EXISTS가 필요하면 서브쿼리로 ID만 먼저 조회
+        if (!filtersResolved && spec.getTags() != null && !spec.getTags().isEmpty()) {
+            // 1단계: 모든 조건 + 정렬 + 페이징 적용한 ID 목록 조회
+            JPAQuery<Long> idQuery = queryFactory
+                    .select(question.id)
+                    .from(question)
+                    .where(predicates);
+            applyPaging(idQuery, pageable, cursor);
+
+            // 2단계: 조회된 ID로 검색 결과 프로젝션 가져오기
+            return fetchByPagedIds(queryFactory, idQuery.fetch(), pageable, currentUserId);
         }
 
+        // 태그 EXISTS가 없으면 질문/태그/풀이 여부까지 한 번에 조회
+        JPAQuery<Tuple> query = selectResults(queryFactory, currentUserId);
+        query.where(predicates);
+        applyPaging(query, pageable, cursor);
+
         // COUNT 쿼리 제거로 성능 최적화 - 무한 스크롤 방식
-        List<Question> questions = query
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize() + 1)
-                .fetch();
+        List<QuestionSearchResult> questions = toResults(query.fetch(), currentUserId);
 
         // hasNextPage 판단 후 실제 size만 반환
         boolean hasNextPage = questions.size() > pageable.getPageSize();
@@ -116,114 +162,387 @@ public class QuestionRepositoryImpl implements QuestionRepositoryCustom {
     }
 
     /**
-     * 태그를 포함한 모든 조건으로 Question ID만 조회 (페이징 포함)
-     * 🚀 EXISTS 서브쿼리 사용: JOIN 대신 EXISTS로 성능 최적화
+     * 정렬/페이징이 끝난 ID 목록(limit+1)으로 검색 결과 프로젝션을 가져온다.
+     */
+    private Page<QuestionSearchResult> fetchByPagedIds(JPAQueryFactory queryFactory, List<Long> pagedQuestionIds,
+                                                       Pageable pageable, Long currentUserId) {
+        // ID가 없으면 빈 결과 반환
+        if (pagedQuestionIds.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
+
+        // hasNextPage는 ID 조회 단계에서 limit+1로 판단
+        boolean hasNextPage = pagedQuestionIds.size() > pageable.getPageSize();
+        if (hasNextPage) {
+            pagedQuestionIds = pagedQuestionIds.subList(0, pageable.getPageSize());
+        }
+
+        // ID 조회와 같은 정렬로 순서 유지
+        JPAQuery<Tuple> query = selectResults(queryFactory, currentUserId)
+                .where(question.id.in(pagedQuestionIds));
+        applyOrder(query, pageable);
+
+        List<QuestionSearchResult> questions = toResults(query.fetch(), currentUserId);
+
+        return new PageImpl<>(questions, pageable, hasNextPage ? pageable.getOffset() + questions.size() + 1 : pageable.getOffset() + questions.size());
+    }
+
+    /**
+     * 🚀 질문 컬럼, 태그 ID 집계(listagg → MySQL GROUP_CONCAT), 현재 사용자의 답변 LEFT JOIN을 한 문장으로 조회
+     * 태그/풀이 여부를 따로 조회하고 메모리에서 묶던 왕복을 없애고, 엔티티/프록시도 만들지 않는다.
+     * question.id로 묶으므로 나머지 질문 컬럼은 PK에 함수 종속이다 (ONLY_FULL_GROUP_BY 허용).
      */
-    private List<Long> findQuestionIdsByConditions(
-            QuestionSearchSpec spec,
-            Pageable pageable,
-            Long currentUserId,
-            JPAQueryFactory queryFactory) {
+    private JPAQuery<Tuple> selectResults(JPAQueryFactory queryFactory, Long currentUserId) {
+        List<Expression<?>> columns = new ArrayList<>(List.of(
+                question.id, question.content, question.category, question.isSolved,
+                question.createdAt, question.updatedAt, TAG_IDS));
+        if (currentUserId != null) {
+            columns.add(MY_ANSWER_ID);
+        }
 
-        // EXISTS 서브쿼리로 태그 필터링 (JOIN 대신 EXISTS 사용)
-        JPAQuery<Long> idQuery = queryFactory
-                .select(question.id)
+        JPAQuery<Tuple> query = queryFactory
+                .select(columns.toArray(new Expression<?>[0]))
                 .from(question)
-                .where(JPAExpressions.selectOne()
-                        .from(questionTag)
-                        .join(tag).on(questionTag.tag.id.eq(tag.id))
-                        .where(questionTag.question.id.eq(question.id)
-                                .and(tag.name.in(spec.getTags())))
-                        .exists());  // 태그 필터링
-
-        // 나머지 조건들 (카테고리, 키워드, solved 등)
-        idQuery.where(buildPredicatesWithoutTags(spec, currentUserId));
-
-        // 정렬 적용
-        if (pageable.getSort().isSorted()) {
-            pageable.getSort().forEach(order -> {
-                Function<Boolean, OrderSpecifier<?>> sortFunction = SORT_MAPPINGS.get(order.getProperty());
-                if (sortFunction != null) {
-                    idQuery.orderBy(sortFunction.apply(order.isAscending()));
-                } else {
-                    idQuery.orderBy(question.id.asc());
+                .leftJoin(resultQuestionTag).on(resultQuestionTag.question.id.eq(question.id));
+        if (currentUserId != null) {
+            query.leftJoin(myAnswer).on(myAnswer.question.id.eq(question.id)
+                    .and(myAnswer.user.id.eq(currentUserId)));
+        }
+        return query.groupBy(question.id);
+    }
+
+    private List<QuestionSearchResult> toResults(List<Tuple> rows, Long currentUserId) {
+        Map<Long, List<Long>> tagIdsByQuestion = new HashMap<>();
+        for (Tuple row : rows) {
+            tagIdsByQuestion.put(row.get(question.id), parseTagIds(row.get(TAG_IDS)));
+        }
+        Map<Long, String> tagNames = resolveTagNames(tagIdsByQuestion.values());
+
+        return rows.stream()
+                .map(row -> {
+                    List<String> tags = tagIdsByQuestion.get(row.get(question.id)).stream()
+                            .map(tagNames::get)
+                            .filter(Objects::nonNull)
+                            .toList();
+                    return QuestionSearchResult.builder()
+                            .id(row.get(question.id))
+                            .content(row.get(question.content))
+                            .category(row.get(question.category))
+                            .questionSolved(row.get(question.isSolved))
+                            .createdAt(row.get(question.createdAt))
+                            .updatedAt(row.get(question.updatedAt))
+                            .isSolved(currentUserId != null && row.get(MY_ANSWER_ID) != null)
+                            .tags(tags)
+                            .build();
+                })
+                .toList();
+    }
+
+    private static List<Long> parseTagIds(String tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(tagIds.split(TAG_SEPARATOR)).map(Long::valueOf).toList();
+    }
+
+    /**
+     * 태그 ID → 이름
+     * 사전에 없는 ID(적재 전이거나 커밋 이벤트 반영 전)만 tag 테이블에서 한 번에 조회한다.
+     */
+    private Map<Long, String> resolveTagNames(Collection<List<Long>> tagIdLists) {
+        Map<Long, String> names = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (List<Long> tagIds : tagIdLists) {
+            for (Long tagId : tagIds) {
+                if (names.containsKey(tagId) || missingIds.contains(tagId)) {
+                    continue;
                 }
-            });
+                tagDictionary.findName(tagId).ifPresentOrElse(
+                        name -> names.put(tagId, name),
+                        () -> missingIds.add(tagId));
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            new JPAQueryFactory(entityManager)
+                    .select(tag.id, tag.name)
+                    .from(tag)
+                    .where(tag.id.in(missingIds))
+                    .fetch()
+                    .forEach(row -> names.put(row.get(tag.id), row.get(tag.name)));
+        }
+        return names;
+    }
+
+    /**
+     * 비트맵에서 id 순서대로 한 페이지(limit+1)의 ID를 꺼낸다.
+     * 커서가 있으면 마지막 ID 다음부터, 없으면 rank 기반 select로 OFFSET 위치로 바로 이동한다.
+     */
+    private List<Long> pageIdsFromBitmap(Roaring64Bitmap ids, Pageable pageable, QuestionCursor cursor) {
+        Sort.Order order = primaryOrder(pageable);
+        boolean ascending = order == null || !SORT_MAPPINGS.containsKey(order.getProperty()) || order.isAscending();
+        long cardinality = ids.getLongCardinality();
+
+        PeekableLongIterator iterator;
+        if (cursor != null) {
+            iterator = ascending
+                    ? ids.getLongIteratorFrom(cursor.getLastId() + 1)
+                    : ids.getReverseLongIteratorFrom(cursor.getLastId() - 1);
+        } else if (pageable.getOffset() < cardinality) {
+            long offset = pageable.getOffset();
+            iterator = ascending
+                    ? ids.getLongIteratorFrom(ids.select(offset))
+                    : ids.getReverseLongIteratorFrom(ids.select(cardinality - 1 - offset));
         } else {
-            idQuery.orderBy(question.id.asc());
+            return Collections.emptyList();
+        }
+
+        List<Long> pageIds = new ArrayList<>(pageable.getPageSize() + 1);
+        while (iterator.hasNext() && pageIds.size() <= pageable.getPageSize()) {
+            pageIds.add(iterator.next());
         }
+        return pageIds;
+    }
 
-        // 페이징 적용 (limit + 1로 hasNextPage 판단)
-        return idQuery
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize() + 1)
-                .fetch();
+    private boolean isBitmapOnly(QuestionSearchSpec spec, Roaring64Bitmap solvedIds) {
+        boolean solvedResolved = spec.getIsSolved() == null || solvedIds != null;
+        return (spec.getKeyword() == null || spec.getKeyword().isBlank()) && solvedResolved;
+    }
+
+    private Roaring64Bitmap findSolvedIds(QuestionSearchSpec spec, Long currentUserId) {
+        if (spec.getIsSolved() == null || currentUserId == null) {
+            return null;
+        }
+        return solvedQuestionCache.getSolvedQuestionIds(currentUserId);
     }
 
     /**
-     * 태그 조건을 제외한 나머지 검색 조건 생성
-     * 태그는 searchQuestions()에서 먼저 처리됨 (성능 최적화)
+     * 풀이 여부 조건을 비트맵에 반영한다.
+     * 푼 문제만이면 풀이 비트맵 자체가 후보가 되고, 안 푼 문제만이면 전체 집합이 없으므로
+     * 카테고리/태그로 좁혀진 비트맵이 있을 때만 차집합으로 처리한다.
      */
-    private BooleanBuilder buildPredicatesWithoutTags(QuestionSearchSpec spec, Long currentUserId) {
-        return QueryDslPredicateBuilder.newBuilder()
-                .andIfNotNull(spec.getCategory(),
-                        category -> question.category.eq(category))
-                .andIfNotBlank(spec.getKeyword(),
-                        keyword -> question.content.containsIgnoreCase(keyword))
-                // 태그 조건 제거 - searchQuestions()에서 이미 처리됨
-                .andIfNotNull(spec.getIsSolved(),
-                        isSolved -> isSolved ?
-                                JPAExpressions.selectFrom(answer)
-                                        .where(answer.question.id.eq(question.id)
-                                                .and(answer.user.id.eq(currentUserId)))
-                                        .exists() :
-                                JPAExpressions.selectFrom(answer)
-                                        .where(answer.question.id.eq(question.id)
-                                                .and(answer.user.id.eq(currentUserId)))
-                                        .notExists())
-                .build();
+    private Roaring64Bitmap applySolvedFilter(Roaring64Bitmap filteredIds, Roaring64Bitmap solvedIds, Boolean isSolved) {
+        if (solvedIds == null) {
+            return filteredIds;
+        }
+        if (Boolean.TRUE.equals(isSolved)) {
+            return filteredIds != null ? Roaring64Bitmap.and(filteredIds, solvedIds) : solvedIds;
+        }
+        return filteredIds != null ? Roaring64Bitmap.andNot(filteredIds, solvedIds) : null;
+    }
+
+    private boolean isIdOrder(Pageable pageable) {
+        Sort.Order order = primaryOrder(pageable);
+        // 정렬 매핑이 없는 필드는 id 오름차순으로 조회된다
+        return order == null || "id".equals(order.getProperty()) || !SORT_MAPPINGS.containsKey(order.getProperty());
+    }
+
+    private Roaring64Bitmap intersect(Roaring64Bitmap left, Roaring64Bitmap right) {
+        if (left == null || right == null) {
+            return left != null ? left : right;
+        }
+        return Roaring64Bitmap.and(left, right);
+    }
+
+    /**
+     * 정렬과 페이징을 적용한다.
+     * 커서가 있으면 OFFSET 대신 (정렬 키, id) 이후의 행만 조회하여
+     * 스크롤 깊이와 무관하게 인덱스 범위 스캔으로 끝나도록 한다.
+     */
+    private void applyPaging(JPAQuery<?> query, Pageable pageable, QuestionCursor cursor) {
+        applyOrder(query, pageable);
+        if (cursor != null) {
+            query.where(keysetPredicate(cursor));
+        } else {
+            query.offset(pageable.getOffset());
+        }
+        query.limit(pageable.getPageSize() + 1);
+    }
+
+    /**
+     * 요청된 정렬 뒤에 id를 보조 정렬 키로 붙여 행 순서를 항상 결정적으로 만든다.
+     * 키셋 페이지네이션은 (정렬 키, id) 순서가 유일해야 동작한다.
+     */
+    private void applyOrder(JPAQuery<?> query, Pageable pageable) {
+        Sort.Order order = primaryOrder(pageable);
+        Function<Boolean, OrderSpecifier<?>> sortFunction = order != null ? SORT_MAPPINGS.get(order.getProperty()) : null;
+        if (sortFunction == null) {
+            query.orderBy(question.id.asc());
+            return;
+        }
+        query.orderBy(sortFunction.apply(order.isAscending()));
+        if (!"id".equals(order.getProperty())) {
+            query.orderBy(order.isAscending() ? question.id.asc() : question.id.desc());
+        }
+    }
+
+    private QuestionCursor resolveCursor(QuestionSearchSpec spec, Pageable pageable) {
+        if (spec.getCursor() == null) {
+            return null;
+        }
+        QuestionCursor cursor = QuestionCursor.decode(spec.getCursor());
+        Sort.Order order = primaryOrder(pageable);
+        // 정렬 매핑이 없는 필드는 id 오름차순으로 조회되므로 커서도 같은 기준으로 비교
+        boolean sortable = order != null && SORT_MAPPINGS.containsKey(order.getProperty());
+        String sortField = sortable ? order.getProperty() : "id";
+        boolean ascending = !sortable || order.isAscending();
+        if (!cursor.matches(sortField, ascending)) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+        return cursor;
+    }
+
+    private BooleanExpression keysetPredicate(QuestionCursor cursor) {
+        boolean ascending = cursor.isAscending();
+        BooleanExpression idAfter = ascending ? question.id.gt(cursor.getLastId()) : question.id.lt(cursor.getLastId());
+        // 값은 QuestionCursor.decode에서 이미 정렬 컬럼 타입으로 검증/변환되어 있다
+        Comparable<?> value = cursor.getLastKey();
+
+        return switch (cursor.getSortField()) {
+            case "content" -> seek(CONTENT_SORT_KEY, value, ascending, idAfter);
+            case "category" -> seek(question.category, value, ascending, idAfter);
+            case "createdAt" -> seek(question.createdAt, value, ascending, idAfter);
+            case "updatedAt" -> seek(question.updatedAt, value, ascending, idAfter);
+            case "isSolved" -> seek(question.isSolved, value, ascending, idAfter);
+            default -> idAfter;
+        };
+    }
+
+    /**
+     * (정렬 키, id) 튜플 비교로 커서 이후의 행만 남긴다.
+     * MySQL은 NULL을 가장 작은 값으로 정렬하므로 NULL 정렬 키도 같은 규칙으로 처리한다.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static BooleanExpression seek(ComparableExpression path, Comparable value, boolean ascending, BooleanExpression idAfter) {
+        if (value == null) {
+            return ascending
+                    ? path.isNull().and(idAfter).or(path.isNotNull())
+                    : path.isNull().and(idAfter);
+        }
+        BooleanExpression afterValue = (ascending ? path.gt(value) : path.lt(value))
+                .or(path.eq(value).and(idAfter));
+        return ascending ? afterValue : afterValue.or(path.isNull());
+    }
+
+    private Sort.Order primaryOrder(Pageable pageable) {
+        return pageable.getSort().isSorted() ? pageable.getSort().iterator().next() : null;
     }
 
     /**
-     * 태그 조건을 포함한 모든 검색 조건 생성 (countQuestions에서 사용)
-     *
-     * @deprecated 성능 이슈로 searchQuestions에서는 사용하지 않음
+     * 검색 조건 생성
+     * filtersResolved면 카테고리/태그 조건은 후보 ID 목록에 이미 반영되어 있으므로 다시 걸지 않는다.
+     * 키워드 후보는 누락 없는 상위 집합이므로 LIKE는 후보 안에서의 최종 확인으로만 동작한다.
      */
-    @Deprecated
-    private BooleanBuilder buildPredicates(QuestionSearchSpec spec, Long currentUserId) {
+    private BooleanBuilder buildPredicates(QuestionSearchSpec spec, Long currentUserId, Roaring64Bitmap candidateIds,
+                                           Roaring64Bitmap solvedIds, boolean filtersResolved) {
         return QueryDslPredicateBuilder.newBuilder()
-                .andIfNotNull(spec.getCategory(),
+                .andIfNotNull(usableCandidates(candidateIds),
+                        ids -> question.id.in(ids))
+                .andIfNotNull(filtersResolved ? null : spec.getCategory(),
                         category -> question.category.eq(category))
+                .andIfNotEmpty(filtersResolved ? null : spec.getTags(),
+                        tags -> tagPredicate(tags, spec.isMatchAllTags()))
                 .andIfNotBlank(spec.getKeyword(),
                         keyword -> question.content.containsIgnoreCase(keyword))
-                .andIfNotEmpty(spec.getTags(),
-                        tags -> JPAExpressions.selectFrom(questionTag)
-                                .join(questionTag.tag, tag)
-                                .where(questionTag.question.id.eq(question.id)
-                                        .and(tag.name.in(tags)))
-                                .exists())
-                .andIfNotNull(spec.getIsSolved(),
-                        isSolved -> isSolved ?
-                                JPAExpressions.selectFrom(answer)
-                                        .where(answer.question.id.eq(question.id)
-                                                .and(answer.user.id.eq(currentUserId)))
-                                        .exists() :
-                                JPAExpressions.selectFrom(answer)
-                                        .where(answer.question.id.eq(question.id)
-                                                .and(answer.user.id.eq(currentUserId)))
-                                        .notExists())
+                .andIfNotNull(filtersResolved ? null : spec.getIsSolved(),
+                        isSolved -> solvedPredicate(isSolved, currentUserId, solvedIds))
                 .build();
     }
 
+    /**
+     * 풀이 비트맵이 작으면 PK IN/NOT IN으로, 크거나 없으면 answer EXISTS 서브쿼리로 처리
+     */
+    private Predicate solvedPredicate(boolean isSolved, Long currentUserId, Roaring64Bitmap solvedIds) {
+        if (!isSolved && solvedIds != null && solvedIds.isEmpty()) {
+            return null;  // 푼 문제가 없으면 모든 질문이 안 푼 문제
+        }
+        List<Long> solvedIdList = usableCandidates(solvedIds);
+        if (solvedIdList != null && !solvedIdList.isEmpty()) {
+            return isSolved ? question.id.in(solvedIdList) : question.id.notIn(solvedIdList);
+        }
+        return isSolved ?
+                JPAExpressions.selectFrom(answer)
+                        .where(answer.question.id.eq(question.id)
+                                .and(answer.user.id.eq(currentUserId)))
+                        .exists() :
+                JPAExpressions.selectFrom(answer)
+                        .where(answer.question.id.eq(question.id)
+                                .and(answer.user.id.eq(currentUserId)))
+                        .notExists();
+    }
+
+    /**
+     * 태그 사전 기준으로 조건을 만족하는 질문이 있을 수 없는지 (ANY는 모든 이름이, ALL은 하나라도 사전에 없을 때)
+     */
+    private boolean hasNoMatchingTag(QuestionSearchSpec spec) {
+        List<String> tags = spec.getTags();
+        if (tags == null || tags.isEmpty() || !tagDictionary.isReady()) {
+            return false;
+        }
+        if (spec.isMatchAllTags()) {
+            return tags.stream().anyMatch(tagName -> tagDictionary.findId(tagName).isEmpty());
+        }
+        return tags.stream().allMatch(tagName -> tagDictionary.findId(tagName).isEmpty());
+    }
+
+    /**
+     * 인덱스가 준비되지 않았거나 후보가 너무 많을 때 쓰는 태그 EXISTS 조건
+     * ANY는 EXISTS 하나에 IN, ALL은 태그마다 EXISTS를 걸어 모두 만족해야 한다.
+     * 🚀 태그 사전이 있으면 이름을 ID로 바꿔 tag 조인 없이 question_tag.tag_id만 본다
+     */
+    private Predicate tagPredicate(Collection<String> tags, boolean matchAllTags) {
+        if (tagDictionary.isReady()) {
+            List<Long> tagIds = tagDictionary.findIds(tags);
+            if (!matchAllTags) {
+                return tagIdExists(questionTag.tag.id.in(tagIds));
+            }
+            BooleanBuilder allTags = new BooleanBuilder();
+            tagIds.forEach(tagId -> allTags.and(tagIdExists(questionTag.tag.id.eq(tagId))));
+            return allTags;
+        }
+        if (!matchAllTags) {
+            return tagExists(tag.name.in(tags));
+        }
+        BooleanBuilder allTags = new BooleanBuilder();
+        tags.forEach(tagName -> allTags.and(tagExists(tag.name.eq(tagName))));
+        return allTags;
+    }
+
+    private BooleanExpression tagIdExists(BooleanExpression tagIdCondition) {
+        return JPAExpressions.selectOne()
+                .from(questionTag)
+                .where(questionTag.question.id.eq(question.id)
+                        .and(tagIdCondition))
+                .exists();
+    }
+
+    private BooleanExpression tagExists(BooleanExpression tagCondition) {
+        return JPAExpressions.selectOne()
+                .from(questionTag)
+                .join(tag).on(questionTag.tag.id.eq(tag.id))
+                .where(questionTag.question.id.eq(question.id)
+                        .and(tagCondition))
+                .exists();
+    }
+
+    private List<Long> usableCandidates(Roaring64Bitmap candidateIds) {
+        if (candidateIds == null || candidateIds.getLongCardinality() > MAX_CANDIDATE_IDS) {
+            return null;
+        }
+        return Arrays.stream(candidateIds.toArray()).boxed().toList();
+    }
+
     @Override
     public long countQuestions(QuestionSearchSpec spec, Long currentUserId) {
+        if (hasNoMatchingTag(spec)) {
+            return 0L;
+        }
         JPAQueryFactory queryFactory = new JPAQueryFactory(entityManager);
 
-        // searchQuestions와 동일한 WHERE 조건 사용
+        // searchQuestions와 동일한 WHERE 조건 사용 (인덱스 후보 없이 SQL 조건만)
         JPAQuery<Long> query = queryFactory
                 .select(question.count())
                 .from(question)
-                .where(buildPredicates(spec, currentUserId));
+                .where(buildPredicates(spec, currentUserId, null, null, false));
 
         Long count = query.fetchOne();
         return count != null ? count : 0L;
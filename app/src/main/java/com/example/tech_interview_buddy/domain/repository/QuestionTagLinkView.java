@@ -0,0 +1,10 @@
+package com.example.tech_interview_buddy.domain.repository;
+
+/**
+ * 인메모리 인덱스 적재용 질문-태그 연결 프로젝션
+ */
+public interface QuestionTagLinkView {
+    Long getId();
+    Long getQuestionId();
+    Long getTagId();
+}
@@ -1,10 +1,13 @@
 package com.example.tech_interview_buddy.domain.repository;
 
 import com.example.tech_interview_buddy.domain.QuestionTag;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface QuestionTagRepository extends JpaRepository<QuestionTag, Long> {
@@ -29,5 +32,55 @@ public interface QuestionTagRepository extends JpaRepository<QuestionTag, Long>
      */
     @Query("SELECT DISTINCT qt.question.id FROM QuestionTag qt JOIN qt.tag t WHERE t.name IN :tagNames")
     List<Long> findQuestionIdsByTagNames(@Param("tagNames") List<String> tagNames);
-}
 
+    /**
+     * 인메모리 인덱스 적재용으로 id 이후의 질문-태그 연결을 id 순서대로 조회합니다.
+     * 엔티티 대신 ID만 담은 프로젝션으로 읽어 120만 건도 청크 단위로 가볍게 적재합니다.
+     *
+     * @param lastId 직전 청크의 마지막 ID (처음엔 0)
+     * @param pageable 청크 크기
+     * @return 질문-태그 연결 프로젝션 리스트
+     */
+    @Query("SELECT qt.id AS id, qt.question.id AS questionId, qt.tag.id AS tagId FROM QuestionTag qt WHERE qt.id > :lastId ORDER BY qt.id")
+    List<QuestionTagLinkView> findLinkViewsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 질문의 태그 ID 목록을 조회합니다.
+     * 카테고리 변경/삭제 시 태그별 카운터를 함께 조정하는 데 사용합니다.
+     *
+     * @param questionId Question ID
+     * @return 태그 ID 리스트 (중복 제거)
+     */
+    @Query("SELECT DISTINCT qt.tag.id FROM QuestionTag qt WHERE qt.question.id = :questionId")
+    List<Long> findTagIdsByQuestionId(@Param("questionId") Long questionId);
+
+    /**
+     * 인메모리 카운터 적재용으로 태그×카테고리별 질문 수를 집계합니다.
+     *
+     * @return 태그×카테고리별 질문 수 프로젝션 리스트
+     */
+    @Query("SELECT qt.tag.id AS tagId, q.category AS category, COUNT(DISTINCT q.id) AS questionCount FROM QuestionTag qt JOIN qt.question q GROUP BY qt.tag.id, q.category")
+    List<TagCategoryCountView> countByTagAndCategory();
+
+    /**
+     * 질문에서 지정한 태그 연결만 한 번의 DELETE로 삭제합니다.
+     * Tag.questionTags 컬렉션을 거치지 않으므로 연결이 많은 태그도 비용이 같습니다.
+     *
+     * @param questionId Question ID
+     * @param tagIds 삭제할 태그 ID 목록
+     * @return 삭제된 연결 수
+     */
+    @Modifying
+    @Query("DELETE FROM QuestionTag qt WHERE qt.question.id = :questionId AND qt.tag.id IN :tagIds")
+    int deleteByQuestionIdAndTagIds(@Param("questionId") Long questionId, @Param("tagIds") Collection<Long> tagIds);
+
+    /**
+     * 질문의 태그 연결을 한 번의 DELETE로 모두 삭제합니다. (질문 삭제 전 정리용)
+     *
+     * @param questionId Question ID
+     * @return 삭제된 연결 수
+     */
+    @Modifying
+    @Query("DELETE FROM QuestionTag qt WHERE qt.question.id = :questionId")
+    int deleteByQuestionId(@Param("questionId") Long questionId);
+}
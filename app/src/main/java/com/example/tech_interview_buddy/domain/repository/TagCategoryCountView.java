@@ -0,0 +1,12 @@
+package com.example.tech_interview_buddy.domain.repository;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+
+/**
+ * 인메모리 카운터 적재용 태그×카테고리 집계 프로젝션
+ */
+public interface TagCategoryCountView {
+    Long getTagId();
+    Category getCategory();
+    Long getQuestionCount();
+}
@@ -0,0 +1,160 @@
+package com.example.tech_interview_buddy.domain.search;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 문자 바이그램(2-gram) 역색인 기반 검색 엔진
+ * 형태소 분석 없이도 한글/영문 모두 부분 문자열 검색이 가능하고,
+ * 포스팅 리스트는 압축 비트맵(Roaring)으로 보관하여 메모리와 교집합 비용을 줄인다.
+ *
+ * 키워드의 모든 바이그램을 가진 질문만 후보가 되므로 LIKE '%kw%' 결과를 빠짐없이 포함하지만,
+ * 바이그램이 떨어져 있는 경우도 후보에 들어갈 수 있어 최종 확인은 DB 조건으로 한다.
+ */
+@Component
+public class NGramQuestionSearchEngine implements QuestionSearchEngine {
+
+    private static final int GRAM_SIZE = 2;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final Map<Integer, Roaring64Bitmap> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    @Override
+    public Optional<Roaring64Bitmap> search(String keyword) {
+        if (!ready || keyword == null) {
+            return Optional.empty();
+        }
+        int[] grams = tokenize(keyword);
+        if (grams.length == 0) {
+            // 바이그램이 없는 1글자 키워드는 DB LIKE로 처리
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Roaring64Bitmap> lists = new ArrayList<>(grams.length);
+            for (int gram : grams) {
+                Roaring64Bitmap posting = postings.get(gram);
+                if (posting == null) {
+                    return Optional.of(new Roaring64Bitmap());
+                }
+                lists.add(posting);
+            }
+            // 가장 짧은 포스팅 리스트부터 교집합하여 중간 결과를 작게 유지
+            lists.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+            Roaring64Bitmap result = lists.get(0).clone();
+            for (int i = 1; i < lists.size() && !result.isEmpty(); i++) {
+                result.and(lists.get(i));
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void index(Long questionId, String content) {
+        int[] grams = tokenize(content);
+        lock.writeLock().lock();
+        try {
+            for (int gram : grams) {
+                postings.computeIfAbsent(gram, key -> new Roaring64Bitmap()).addLong(questionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long questionId, String content) {
+        int[] grams = tokenize(content);
+        lock.writeLock().lock();
+        try {
+            for (int gram : grams) {
+                Roaring64Bitmap posting = postings.get(gram);
+                if (posting == null) {
+                    continue;
+                }
+                posting.removeLong(questionId);
+                if (posting.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(Roaring64Bitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+    }
+
+    /**
+     * 정규화한 뒤 중복 없는 바이그램을 int(상위 16비트 첫 글자, 하위 16비트 둘째 글자)로 만든다.
+     * containsIgnoreCase와 같은 기준을 쓰기 위해 공백은 그대로 둔다.
+     */
+    static int[] tokenize(String text) {
+        if (text == null || text.length() < GRAM_SIZE) {
+            return new int[0];
+        }
+        String normalized = fold(text);
+        if (normalized.length() < GRAM_SIZE) {
+            return new int[0];
+        }
+        int[] grams = new int[normalized.length() - GRAM_SIZE + 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (normalized.charAt(i) << 16) | normalized.charAt(i + 1);
+        }
+        return Arrays.stream(grams).distinct().toArray();
+    }
+
+    /**
+     * DB LIKE(accent/case-insensitive collation)와 같은 기준으로 접는다: 전각/호환 문자는 NFKD로 펼치고,
+     * 악센트(결합 문자)를 지운 뒤 NFC로 한글 음절을 다시 합치고 소문자로 바꾼다.
+     * 후보가 DB 결과의 상위 집합이어야 하므로 본문과 키워드에 같은 규칙을 쓴다.
+     */
+    static String fold(String text) {
+        if (isAscii(text)) {
+            return text.toLowerCase(Locale.ROOT);
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return Normalizer.normalize(stripped, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.tech_interview_buddy.domain.search;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+import com.example.tech_interview_buddy.domain.repository.CategoryCountView;
+import com.example.tech_interview_buddy.domain.repository.TagCategoryCountView;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 카테고리별, 태그별, 카테고리×태그별 질문 수를 메모리에 정확히 유지하는 카운터
+ * 기동 시 DB 집계로 한 번 채우고, 이후에는 커밋된 쓰기 이벤트로만 증감한다.
+ * 적재 전에 들어온 이벤트는 반영하지 않고 건수만 센다: 집계 도중 변경이 있었으면 적재 측이 다시 집계하므로
+ * 같은 변경이 집계와 이벤트로 두 번 세어지지 않는다.
+ * 필터 없는 전체 개수와 카테고리/단일 태그 조건의 개수를 COUNT 쿼리 없이 O(1)로 돌려준다.
+ */
+@Component
+public class QuestionCounter {
+
+    private static final int CATEGORY_COUNT = Category.values().length;
+
+    private final long[] countsByCategory = new long[CATEGORY_COUNT];
+    private final Map<Long, long[]> countsByTagAndCategory = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalCount = 0L;
+    private long pendingChanges = 0L;  // 적재 전에 들어온(반영하지 않은) 이벤트 수
+    private volatile boolean ready = false;
+
+    /**
+     * @param category 카테고리 (null이면 전체)
+     */
+    public long count(Category category) {
+        lock.readLock().lock();
+        try {
+            return category != null ? countsByCategory[category.ordinal()] : totalCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param category 카테고리 (null이면 모든 카테고리 합계)
+     * @param tagId 태그 ID
+     */
+    public long count(Category category, Long tagId) {
+        lock.readLock().lock();
+        try {
+            long[] counts = countsByTagAndCategory.get(tagId);
+            if (counts == null) {
+                return 0L;
+            }
+            if (category != null) {
+                return counts[category.ordinal()];
+            }
+            long sum = 0L;
+            for (long count : counts) {
+                sum += count;
+            }
+            return sum;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void addQuestion(Category category, Collection<Long> tagIds) {
+        adjust(category, tagIds, 1);
+    }
+
+    public void removeQuestion(Category category, Collection<Long> tagIds) {
+        adjust(category, tagIds, -1);
+    }
+
+    public void changeCategory(Category previousCategory, Category category, Collection<Long> tagIds) {
+        lock.writeLock().lock();
+        try {
+            if (deferUntilLoaded()) {
+                return;
+            }
+            adjustCategory(previousCategory, tagIds, -1);
+            adjustCategory(category, tagIds, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addTags(Category category, Collection<Long> tagIds) {
+        adjustTags(category, tagIds, 1);
+    }
+
+    public void removeTags(Category category, Collection<Long> tagIds) {
+        adjustTags(category, tagIds, -1);
+    }
+
+    /**
+     * 적재 전에 들어온 이벤트 수 (적재 측이 집계 전후로 비교해 집계 도중의 변경을 감지한다)
+     */
+    public long pendingChanges() {
+        lock.readLock().lock();
+        try {
+            return pendingChanges;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * DB 집계 결과로 카운터를 통째로 교체하고 준비 상태로 바꾼다.
+     * 집계를 시작할 때 본 pendingChanges와 지금 값이 다르면 집계 도중 커밋된 변경이 있었던 것이므로 교체하지 않는다.
+     *
+     * @param expectedPendingChanges 집계 시작 전 pendingChanges (음수면 비교 없이 교체)
+     * @return 교체했으면 true
+     */
+    public boolean load(List<CategoryCountView> categoryCounts, List<TagCategoryCountView> tagCounts,
+                        long expectedPendingChanges) {
+        lock.writeLock().lock();
+        try {
+            if (expectedPendingChanges >= 0 && pendingChanges != expectedPendingChanges) {
+                return false;
+            }
+            Arrays.fill(countsByCategory, 0L);
+            totalCount = 0L;
+            for (CategoryCountView view : categoryCounts) {
+                countsByCategory[view.getCategory().ordinal()] += view.getQuestionCount();
+                totalCount += view.getQuestionCount();
+            }
+            countsByTagAndCategory.clear();
+            for (TagCategoryCountView view : tagCounts) {
+                countsByTagAndCategory.computeIfAbsent(view.getTagId(), key -> new long[CATEGORY_COUNT])
+                    [view.getCategory().ordinal()] += view.getQuestionCount();
+            }
+            ready = true;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void adjust(Category category, Collection<Long> tagIds, int delta) {
+        lock.writeLock().lock();
+        try {
+            if (deferUntilLoaded()) {
+                return;
+            }
+            totalCount += delta;
+            adjustCategory(category, tagIds, delta);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void adjustTags(Category category, Collection<Long> tagIds, int delta) {
+        if (category == null || tagIds == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (deferUntilLoaded()) {
+                return;
+            }
+            for (Long tagId : tagIds) {
+                countsByTagAndCategory.computeIfAbsent(tagId, key -> new long[CATEGORY_COUNT])[category.ordinal()] += delta;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 호출 측에서 쓰기 락을 잡고 있어야 한다
+    private boolean deferUntilLoaded() {
+        if (ready) {
+            return false;
+        }
+        pendingChanges++;
+        return true;
+    }
+
+    // 호출 측에서 쓰기 락을 잡고 있어야 한다
+    private void adjustCategory(Category category, Collection<Long> tagIds, int delta) {
+        if (category == null) {
+            return;
+        }
+        countsByCategory[category.ordinal()] += delta;
+        if (tagIds != null) {
+            for (Long tagId : tagIds) {
+                countsByTagAndCategory.computeIfAbsent(tagId, key -> new long[CATEGORY_COUNT])[category.ordinal()] += delta;
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.tech_interview_buddy.domain.search;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그/카테고리별 질문 ID 압축 비트맵 인덱스
+ * question_tag를 매 검색마다 EXISTS로 조인하는 대신, 태그별 비트맵을 교집합(ALL)/합집합(ANY)하고
+ * 카테고리 비트맵과 교집합하여 조건에 맞는 질문 ID 집합을 메모리에서 바로 계산한다.
+ */
+@Component
+public class QuestionFilterIndex {
+
+    private final TagDictionary tagDictionary;
+    private final Map<Long, Roaring64Bitmap> questionIdsByTag = new HashMap<>();
+    private final Map<Category, Roaring64Bitmap> questionIdsByCategory = new EnumMap<>(Category.class);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    public QuestionFilterIndex(TagDictionary tagDictionary) {
+        this.tagDictionary = tagDictionary;
+    }
+
+    /**
+     * 카테고리/태그 조건에 맞는 질문 ID를 계산합니다.
+     *
+     * @param category 카테고리 (null이면 조건 없음)
+     * @param tagNames 태그 이름 목록 (비어 있으면 조건 없음)
+     * @param matchAllTags true면 모든 태그를 가진 질문(교집합), false면 하나라도 가진 질문(합집합)
+     * @return 조건에 맞는 질문 ID, 조건이 없거나 인덱스가 준비되지 않았으면 empty
+     */
+    public Optional<Roaring64Bitmap> match(Category category, Collection<String> tagNames, boolean matchAllTags) {
+        boolean hasTags = tagNames != null && !tagNames.isEmpty();
+        if (!ready || (category == null && !hasTags)) {
+            return Optional.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            Roaring64Bitmap result = hasTags ? matchTags(tagNames, matchAllTags) : null;
+            if (category != null) {
+                Roaring64Bitmap categoryIds = questionIdsByCategory.getOrDefault(category, new Roaring64Bitmap());
+                result = result != null ? Roaring64Bitmap.and(result, categoryIds) : categoryIds.clone();
+            }
+            return Optional.of(result);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Roaring64Bitmap matchTags(Collection<String> tagNames, boolean matchAllTags) {
+        List<Roaring64Bitmap> bitmaps = new ArrayList<>(tagNames.size());
+        for (String tagName : tagNames) {
+            Long tagId = tagDictionary.findId(tagName).orElse(null);
+            Roaring64Bitmap questionIds = tagId != null ? questionIdsByTag.get(tagId) : null;
+            if (questionIds == null) {
+                if (matchAllTags) {
+                    // 없는 태그가 하나라도 있으면 모두 가진 질문은 없다
+                    return new Roaring64Bitmap();
+                }
+                continue;
+            }
+            bitmaps.add(questionIds);
+        }
+
+        Roaring64Bitmap result = new Roaring64Bitmap();
+        if (bitmaps.isEmpty()) {
+            return result;
+        }
+        if (matchAllTags) {
+            // 가장 작은 비트맵부터 교집합하여 중간 결과를 작게 유지
+            bitmaps.sort(Comparator.comparingLong(Roaring64Bitmap::getLongCardinality));
+            result.or(bitmaps.get(0));
+            for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+                result.and(bitmaps.get(i));
+            }
+        } else {
+            bitmaps.forEach(result::or);
+        }
+        return result;
+    }
+
+    public void addQuestion(Long questionId, Category category) {
+        lock.writeLock().lock();
+        try {
+            if (category != null) {
+                questionIdsByCategory.computeIfAbsent(category, key -> new Roaring64Bitmap()).addLong(questionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void changeCategory(Long questionId, Category previousCategory, Category category) {
+        lock.writeLock().lock();
+        try {
+            if (previousCategory != null && questionIdsByCategory.containsKey(previousCategory)) {
+                questionIdsByCategory.get(previousCategory).removeLong(questionId);
+            }
+            if (category != null) {
+                questionIdsByCategory.computeIfAbsent(category, key -> new Roaring64Bitmap()).addLong(questionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 질문을 모든 카테고리/태그 비트맵에서 제거합니다.
+     * 태그 수는 질문 수에 비해 매우 적으므로 태그 비트맵 전체를 순회한다.
+     */
+    public void removeQuestion(Long questionId) {
+        lock.writeLock().lock();
+        try {
+            questionIdsByCategory.values().forEach(bitmap -> bitmap.removeLong(questionId));
+            questionIdsByTag.values().forEach(bitmap -> bitmap.removeLong(questionId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addTags(Long questionId, Collection<Long> tagIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long tagId : tagIds) {
+                questionIdsByTag.computeIfAbsent(tagId, key -> new Roaring64Bitmap()).addLong(questionId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void removeTags(Long questionId, Collection<Long> tagIds) {
+        lock.writeLock().lock();
+        try {
+            for (Long tagId : tagIds) {
+                Roaring64Bitmap questionIds = questionIdsByTag.get(tagId);
+                if (questionIds != null) {
+                    questionIds.removeLong(questionId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            questionIdsByCategory.values().forEach(Roaring64Bitmap::runOptimize);
+            questionIdsByTag.values().forEach(Roaring64Bitmap::runOptimize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.tech_interview_buddy.domain.search;
+
+import com.example.tech_interview_buddy.domain.event.QuestionCreatedEvent;
+import com.example.tech_interview_buddy.domain.event.QuestionDeletedEvent;
+import com.example.tech_interview_buddy.domain.event.QuestionTagsChangedEvent;
+import com.example.tech_interview_buddy.domain.event.QuestionUpdatedEvent;
+import com.example.tech_interview_buddy.domain.event.TagCreatedEvent;
+import com.example.tech_interview_buddy.domain.event.TagRenamedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 질문 쓰기 이벤트를 받아 인메모리 인덱스를 증분 갱신한다.
+ * 롤백된 변경이 인덱스에 남지 않도록 커밋 이후(AFTER_COMMIT)에만 반영한다.
+ * 검색 엔진/필터 인덱스 적재가 끝나기 전에 들어온 변경은 바로 반영하지 않고 쌓아 두었다가,
+ * 적재가 끝나면 순서대로 재생한 뒤 준비 상태로 바꾼다. 적재 측이 변경 전 행을 읽어 뒤늦게 넣더라도
+ * 재생이 최종 상태로 덮어쓴다 (각 갱신은 같은 변경을 두 번 반영해도 결과가 같다).
+ */
+@Component
+@RequiredArgsConstructor
+public class QuestionIndexEventListener {
+
+    private final QuestionSearchEngine questionSearchEngine;
+    private final QuestionFilterIndex questionFilterIndex;
+    private final QuestionCounter questionCounter;
+    private final TagDictionary tagDictionary;
+    private final TagSuggestIndex tagSuggestIndex;
+    private final Lock indexLock = new ReentrantLock();
+    private final List<Runnable> pendingIndexChanges = new ArrayList<>();  // 적재 전에 들어온 인덱스 변경
+    private boolean indexReady = false;
+
+    @TransactionalEventListener
+    public void onCreated(QuestionCreatedEvent event) {
+        applyToIndex(() -> {
+            questionSearchEngine.index(event.getQuestionId(), event.getContent());
+            questionFilterIndex.addQuestion(event.getQuestionId(), event.getCategory());
+        });
+        questionCounter.addQuestion(event.getCategory(), List.of());
+    }
+
+    @TransactionalEventListener
+    public void onUpdated(QuestionUpdatedEvent event) {
+        if (!Objects.equals(event.getPreviousContent(), event.getContent())) {
+            applyToIndex(() -> {
+                questionSearchEngine.remove(event.getQuestionId(), event.getPreviousContent());
+                questionSearchEngine.index(event.getQuestionId(), event.getContent());
+            });
+        }
+        if (event.getPreviousCategory() != event.getCategory()) {
+            applyToIndex(() -> questionFilterIndex.changeCategory(event.getQuestionId(), event.getPreviousCategory(), event.getCategory()));
+            questionCounter.changeCategory(event.getPreviousCategory(), event.getCategory(), event.getTagIds());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onDeleted(QuestionDeletedEvent event) {
+        applyToIndex(() -> {
+            questionSearchEngine.remove(event.getQuestionId(), event.getContent());
+            questionFilterIndex.removeQuestion(event.getQuestionId());
+        });
+        questionCounter.removeQuestion(event.getCategory(), event.getTagIds());
+        updateSuggestCounts(event.getTagIds());
+    }
+
+    @TransactionalEventListener
+    public void onTagsChanged(QuestionTagsChangedEvent event) {
+        if (event.getAddedTagIds() != null && !event.getAddedTagIds().isEmpty()) {
+            applyToIndex(() -> questionFilterIndex.addTags(event.getQuestionId(), event.getAddedTagIds()));
+            questionCounter.addTags(event.getCategory(), event.getAddedTagIds());
+        }
+        if (event.getRemovedTagIds() != null && !event.getRemovedTagIds().isEmpty()) {
+            applyToIndex(() -> questionFilterIndex.removeTags(event.getQuestionId(), event.getRemovedTagIds()));
+            questionCounter.removeTags(event.getCategory(), event.getRemovedTagIds());
+        }
+        updateSuggestCounts(event.getAddedTagIds());
+        updateSuggestCounts(event.getRemovedTagIds());
+    }
+
+    @TransactionalEventListener
+    public void onTagCreated(TagCreatedEvent event) {
+        tagDictionary.register(event.getTagId(), event.getName());
+        tagSuggestIndex.addTag(event.getTagId(), event.getName(), 0L);
+    }
+
+    @TransactionalEventListener
+    public void onTagRenamed(TagRenamedEvent event) {
+        tagDictionary.rename(event.getTagId(), event.getName());
+        tagSuggestIndex.renameTag(event.getTagId(), event.getName());
+    }
+
+    /**
+     * 적재가 끝난 뒤 호출: 쌓아 둔 변경을 순서대로 반영하고 검색 엔진/필터 인덱스를 준비 상태로 바꾼다.
+     * 재생 중에 들어온 변경은 락을 기다렸다가 그 뒤에 반영된다.
+     */
+    public void markIndexReady() {
+        indexLock.lock();
+        try {
+            pendingIndexChanges.forEach(Runnable::run);
+            pendingIndexChanges.clear();
+            indexReady = true;
+            questionSearchEngine.markReady();
+            questionFilterIndex.markReady();
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    // 적재 전이면 쌓아 두고, 이후에는 바로 반영한다
+    private void applyToIndex(Runnable change) {
+        indexLock.lock();
+        try {
+            if (!indexReady) {
+                pendingIndexChanges.add(change);
+                return;
+            }
+        } finally {
+            indexLock.unlock();
+        }
+        change.run();
+    }
+
+    // 자동완성 순위는 카운터에 반영된 태그별 질문 수를 따른다
+    private void updateSuggestCounts(Collection<Long> tagIds) {
+        if (tagIds == null) {
+            return;
+        }
+        for (Long tagId : tagIds) {
+            tagSuggestIndex.updateQuestionCount(tagId, questionCounter.count(null, tagId));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.tech_interview_buddy.domain.search;
+
+import com.example.tech_interview_buddy.domain.Tag;
+import com.example.tech_interview_buddy.domain.repository.CategoryCountView;
+import com.example.tech_interview_buddy.domain.repository.QuestionIndexView;
+import com.example.tech_interview_buddy.domain.repository.QuestionRepository;
+import com.example.tech_interview_buddy.domain.repository.QuestionTagLinkView;
+import com.example.tech_interview_buddy.domain.repository.QuestionTagRepository;
+import com.example.tech_interview_buddy.domain.repository.TagCategoryCountView;
+import com.example.tech_interview_buddy.domain.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 기동 후 DB의 질문을 청크 단위로 읽어 인메모리 인덱스를 채운다.
+ * 적재가 끝나기 전까지 각 인덱스는 준비되지 않은 상태로 남아 있고, 검색은 DB 쿼리로 처리된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionIndexLoader {
+
+    private static final int CHUNK_SIZE = 5_000;
+    private static final int MAX_COUNT_ATTEMPTS = 3;
+
+    private final QuestionRepository questionRepository;
+    private final QuestionTagRepository questionTagRepository;
+    private final TagRepository tagRepository;
+    private final QuestionSearchEngine questionSearchEngine;
+    private final QuestionFilterIndex questionFilterIndex;
+    private final TagDictionary tagDictionary;
+    private final TagSuggestIndex tagSuggestIndex;
+    private final QuestionCounter questionCounter;
+    private final QuestionIndexEventListener questionIndexEventListener;
+    private final PlatformTransactionManager transactionManager;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startTime = System.currentTimeMillis();
+        // 태그 사전은 작아서 먼저 적재하고 바로 쓰기 시작한다 (질문 인덱스 적재를 기다리지 않음)
+        List<Tag> tags = loadTagDictionary();
+        long questionCount = loadQuestions();
+        long linkCount = loadTags();
+        loadCounts();
+        loadTagSuggestions(tags);
+
+        // 적재 도중 커밋된 변경을 재생한 뒤 준비 상태로 바꾼다
+        questionIndexEventListener.markIndexReady();
+        log.info("질문 인덱스 적재 완료: 질문 {}건, 태그 연결 {}건, {}ms",
+            questionCount, linkCount, System.currentTimeMillis() - startTime);
+    }
+
+    private long loadQuestions() {
+        long lastId = 0L;
+        long loaded = 0L;
+
+        List<QuestionIndexView> chunk;
+        do {
+            chunk = questionRepository.findIndexViewsAfter(lastId, PageRequest.ofSize(CHUNK_SIZE));
+            for (QuestionIndexView view : chunk) {
+                questionSearchEngine.index(view.getId(), view.getContent());
+                questionFilterIndex.addQuestion(view.getId(), view.getCategory());
+            }
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+                loaded += chunk.size();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+        return loaded;
+    }
+
+    private List<Tag> loadTagDictionary() {
+        List<Tag> tags = tagRepository.findAll();
+        for (Tag tag : tags) {
+            tagDictionary.register(tag.getId(), tag.getName());
+        }
+        tagDictionary.markReady();
+        return tags;
+    }
+
+    private long loadTags() {
+        long lastId = 0L;
+        long loaded = 0L;
+
+        List<QuestionTagLinkView> chunk;
+        do {
+            chunk = questionTagRepository.findLinkViewsAfter(lastId, PageRequest.ofSize(CHUNK_SIZE));
+            for (QuestionTagLinkView link : chunk) {
+                questionFilterIndex.addTags(link.getQuestionId(), List.of(link.getTagId()));
+            }
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1).getId();
+                loaded += chunk.size();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+        return loaded;
+    }
+
+    // 질문 수로 순위를 매기므로 태그 카운트 적재 후에 채운다
+    private void loadTagSuggestions(List<Tag> tags) {
+        for (Tag tag : tags) {
+            tagSuggestIndex.addTag(tag.getId(), tag.getName(), questionCounter.count(null, tag.getId()));
+        }
+        tagSuggestIndex.markReady();
+    }
+
+    /**
+     * 카테고리/태그 집계를 한 스냅샷(REPEATABLE READ 읽기 전용 트랜잭션)에서 읽어 카운터를 통째로 교체한다.
+     * 집계 도중 커밋된 변경이 있으면 그 변경이 스냅샷에 들었는지 알 수 없으므로 다시 집계한다.
+     */
+    private void loadCounts() {
+        TransactionTemplate snapshotTransaction = new TransactionTemplate(transactionManager);
+        snapshotTransaction.setReadOnly(true);
+        snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        for (int attempt = 1; attempt <= MAX_COUNT_ATTEMPTS; attempt++) {
+            long pendingChanges = questionCounter.pendingChanges();
+            CountSnapshot snapshot = snapshotTransaction.execute(status -> new CountSnapshot(
+                questionRepository.countByCategory(),
+                questionTagRepository.countByTagAndCategory()));
+            if (questionCounter.load(snapshot.categoryCounts(), snapshot.tagCounts(), pendingChanges)) {
+                return;
+            }
+            if (attempt == MAX_COUNT_ATTEMPTS) {
+                questionCounter.load(snapshot.categoryCounts(), snapshot.tagCounts(), -1);
+                log.warn("집계 도중 변경이 계속되어 마지막 집계로 카운터를 적재했습니다 (재시작 전까지 오차가 있을 수 있음)");
+                return;
+            }
+            log.info("카운터 집계 도중 변경 발생, 다시 집계합니다 ({}회차)", attempt);
+        }
+    }
+
+    private record CountSnapshot(List<CategoryCountView> categoryCounts, List<TagCategoryCountView> tagCounts) {
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.tech_interview_buddy.domain.search;
+
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.Optional;
+
+/**
+ * 질문 본문 키워드 검색 엔진
+ * 키워드에 매칭되는 질문 ID 집합을 돌려주고, 나머지 조건(정렬/페이징 등)은 DB 쿼리가 처리한다.
+ */
+public interface QuestionSearchEngine {
+
+    /**
+     * 키워드를 포함할 수 있는 질문 ID 후보를 반환합니다.
+     * 실제 매칭 질문은 모두 포함되며(누락 없음), 호출 측은 후보 안에서만 최종 확인하면 됩니다.
+     *
+     * @param keyword 검색 키워드
+     * @return 후보 ID 집합, 엔진이 처리할 수 없으면(미적재, 너무 짧은 키워드 등) empty
+     */
+    Optional<Roaring64Bitmap> search(String keyword);
+
+    void index(Long questionId, String content);
+
+    void remove(Long questionId, String content);
+
+    /**
+     * 초기 적재가 끝나 검색에 사용할 수 있는 상태인지 여부
+     */
+    boolean isReady();
+
+    void markReady();
+}
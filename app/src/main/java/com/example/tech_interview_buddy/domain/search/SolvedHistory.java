@@ -0,0 +1,43 @@
+package com.example.tech_interview_buddy.domain.search;
+
+import lombok.Getter;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자의 풀이 이력 스냅샷 (푼 질문 ID 비트맵 + 버전)
+ * 비트맵은 교체될 때마다 새 버전을 받으므로, 버전만 비교해도 같은 이력인지 알 수 있다.
+ * 추천 캐시처럼 이력을 키로 써야 하는 곳은 비트맵 내용 대신 이 객체를 키에 넣는다 (equals/hashCode는 버전만 본다).
+ */
+@Getter
+public final class SolvedHistory {
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final Roaring64Bitmap questionIds;  // 읽기 전용
+    private final long version;
+
+    private SolvedHistory(Roaring64Bitmap questionIds, long version) {
+        this.questionIds = questionIds;
+        this.version = version;
+    }
+
+    static SolvedHistory of(Roaring64Bitmap questionIds) {
+        return new SolvedHistory(questionIds, VERSIONS.incrementAndGet());
+    }
+
+    public boolean isEmpty() {
+        return questionIds.isEmpty();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof SolvedHistory other && version == other.version;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(version);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.tech_interview_buddy.domain.search;
+
+import com.example.tech_interview_buddy.domain.event.AnswerCreatedEvent;
+import com.example.tech_interview_buddy.domain.event.AnswerDeletedEvent;
+import com.example.tech_interview_buddy.domain.repository.AnswerRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 사용자별 풀이 완료 질문 ID 캐시
+ * 검색마다 answer 테이블에 EXISTS 서브쿼리/IN 조회를 하는 대신,
+ * 처음 요청 시 사용자의 풀이 질문 ID를 압축 비트맵으로 한 번 읽어 두고 답변 생성/삭제 시 갱신한다.
+ *
+ * 캐시된 비트맵은 읽기 전용으로 공유되며, 갱신은 복사본을 만들어 교체한다 (copy-on-write).
+ */
+@Component
+public class SolvedQuestionCache {
+
+    private final AnswerRepository answerRepository;
+    private final Cache<Long, SolvedHistory> solvedQuestionIdsByUser;
+
+    public SolvedQuestionCache(
+            AnswerRepository answerRepository,
+            @Value("${solved-cache.maximum-weight-bytes:67108864}") long maximumWeightBytes,
+            @Value("${solved-cache.expire-after-access-minutes:30}") long expireAfterAccessMinutes) {
+        this.answerRepository = answerRepository;
+        this.solvedQuestionIdsByUser = Caffeine.newBuilder()
+                .maximumWeight(maximumWeightBytes)  // 비트맵 크기 합계 기준으로 오래 안 쓴 사용자부터 제거
+                .weigher((Long userId, SolvedHistory history) -> (int) Math.min(Integer.MAX_VALUE, history.getQuestionIds().getLongSizeInBytes()))
+                .expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 사용자가 푼 질문 ID를 반환합니다. 반환된 비트맵은 수정하면 안 됩니다.
+     *
+     * @param userId 사용자 ID
+     * @return 풀이 완료 질문 ID (userId가 null이면 빈 비트맵)
+     */
+    public Roaring64Bitmap getSolvedQuestionIds(Long userId) {
+        if (userId == null) {
+            return new Roaring64Bitmap();
+        }
+        return getSolvedHistory(userId).getQuestionIds();
+    }
+
+    /**
+     * 사용자의 풀이 이력과 버전 (이력이 바뀌면 버전도 바뀐다)
+     */
+    public SolvedHistory getSolvedHistory(Long userId) {
+        return solvedQuestionIdsByUser.get(userId, this::load);
+    }
+
+    public boolean isSolved(Long userId, Long questionId) {
+        return getSolvedQuestionIds(userId).contains(questionId);
+    }
+
+    @TransactionalEventListener
+    public void onAnswerCreated(AnswerCreatedEvent event) {
+        // 아직 캐시되지 않은 사용자는 다음 조회 시 DB에서 새로 읽으므로 갱신할 필요가 없다
+        solvedQuestionIdsByUser.asMap().computeIfPresent(event.getUserId(), (userId, history) -> {
+            Roaring64Bitmap updated = history.getQuestionIds().clone();
+            updated.addLong(event.getQuestionId());
+            return SolvedHistory.of(updated);
+        });
+    }
+
+    @TransactionalEventListener
+    public void onAnswerDeleted(AnswerDeletedEvent event) {
+        if (solvedQuestionIdsByUser.getIfPresent(event.getUserId()) == null) {
+            return;
+        }
+        // 같은 질문에 답변이 하나 더 남아 있으면 여전히 푼 질문이다 (answer에 user_id, question_id 유니크 제약이 없음)
+        if (answerRepository.existsByUserIdAndQuestionId(event.getUserId(), event.getQuestionId())) {
+            return;
+        }
+        solvedQuestionIdsByUser.asMap().computeIfPresent(event.getUserId(), (userId, history) -> {
+            Roaring64Bitmap updated = history.getQuestionIds().clone();
+            updated.removeLong(event.getQuestionId());
+            return SolvedHistory.of(updated);
+        });
+    }
+
+    private SolvedHistory load(Long userId) {
+        Roaring64Bitmap ids = new Roaring64Bitmap();
+        answerRepository.findQuestionIdsByUserId(userId).forEach(ids::addLong);
+        ids.runOptimize();
+        return SolvedHistory.of(ids);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.tech_interview_buddy.domain.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 이름 ↔ ID 사전
+ * 태그 수는 질문 수에 비해 매우 적으므로 전부 메모리에 두고, 기동 시 한 번 적재한 뒤 태그 생성/이름 변경 커밋 후 갱신한다.
+ * 검색은 태그 이름을 여기서 ID로 바꿔 tag 테이블 조인 없이 question_tag.tag_id로 바로 거르고,
+ * 사전에 없는 이름이면 쿼리 없이 빈 결과로 끝낸다.
+ *
+ * 읽기는 잠금 없이 하고, 이름 변경처럼 두 맵을 함께 바꾸는 쓰기만 직렬화한다.
+ * tag.name 비교는 MySQL 콜레이션상 대소문자를 구분하지 않으므로 이름 키도 normalize한 값으로 저장/조회한다.
+ */
+@Component
+public class TagDictionary {
+
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+    private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+    private volatile boolean ready = false;
+
+    public Optional<Long> findId(String name) {
+        return name != null ? Optional.ofNullable(idsByName.get(normalize(name))) : Optional.empty();
+    }
+
+    public Optional<String> findName(Long tagId) {
+        return tagId != null ? Optional.ofNullable(namesById.get(tagId)) : Optional.empty();
+    }
+
+    /**
+     * 이름 목록 중 사전에 있는 태그의 ID (없는 이름은 건너뛰고, 중복은 한 번만)
+     */
+    public List<Long> findIds(Collection<String> names) {
+        List<Long> tagIds = new ArrayList<>(names.size());
+        for (String name : names) {
+            Long tagId = name != null ? idsByName.get(normalize(name)) : null;
+            if (tagId != null && !tagIds.contains(tagId)) {
+                tagIds.add(tagId);
+            }
+        }
+        return tagIds;
+    }
+
+    public synchronized void register(Long tagId, String name) {
+        namesById.put(tagId, name);
+        idsByName.put(normalize(name), tagId);
+    }
+
+    public synchronized void rename(Long tagId, String name) {
+        String previousName = namesById.put(tagId, name);
+        if (previousName != null) {
+            idsByName.remove(normalize(previousName), tagId);
+        }
+        idsByName.put(normalize(name), tagId);
+    }
+
+    /**
+     * 사전 키로 쓰는 태그 이름 (DB의 이름 비교와 같은 기준으로 맞추려는 곳에서도 쓴다)
+     */
+    public static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+}
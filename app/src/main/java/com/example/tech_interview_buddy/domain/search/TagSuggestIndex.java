@@ -0,0 +1,203 @@
+package com.example.tech_interview_buddy.domain.search;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 태그 자동완성용 접두사 트라이
+ * 노드마다 그 접두사로 시작하는 태그 중 질문 수 상위 k개를 미리 들고 있어, 조회는 접두사 길이만큼 내려가서 목록을 읽기만 한다.
+ * 태그 생성/이름 변경/질문 수 변화가 있으면 그 태그의 경로에 있는 노드만 아래에서부터 다시 계산한다.
+ * 노드의 상위 k는 자식들의 상위 k와 그 노드에서 끝나는 태그 안에 반드시 있으므로 경로 밖은 볼 필요가 없다.
+ *
+ * 이름은 소문자로 정규화해 대소문자 구분 없이 찾는다.
+ */
+@Component
+public class TagSuggestIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final int topK;
+    private final Node root = new Node();
+    private final Map<Long, String> namesById = new HashMap<>();
+    private final Map<Long, Long> questionCountsById = new HashMap<>();
+    private final Comparator<Long> ranking = Comparator
+            .comparingLong((Long tagId) -> questionCountsById.getOrDefault(tagId, 0L)).reversed()
+            .thenComparing(namesById::get);
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    public TagSuggestIndex(@Value("${tag.suggest.top-k:10}") int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * @param prefix 입력 중인 태그 이름 앞부분 (비어 있으면 전체 상위 태그)
+     * @param limit 최대 개수 (top-k를 넘을 수 없음)
+     * @return 질문 수 내림차순 태그, 인덱스가 준비되지 않았으면 빈 목록
+     */
+    public List<TagSuggestion> suggest(String prefix, int limit) {
+        if (!ready || limit <= 0) {
+            return List.of();
+        }
+        String key = normalize(prefix);
+
+        lock.readLock().lock();
+        try {
+            Node node = findNode(key);
+            if (node == null) {
+                return List.of();
+            }
+            int size = Math.min(limit, node.top.length);
+            List<TagSuggestion> suggestions = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                long tagId = node.top[i];
+                suggestions.add(TagSuggestion.builder()
+                        .id(tagId)
+                        .name(namesById.get(tagId))
+                        .questionCount(questionCountsById.getOrDefault(tagId, 0L))
+                        .build());
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void addTag(Long tagId, String name, long questionCount) {
+        lock.writeLock().lock();
+        try {
+            String previousName = namesById.get(tagId);
+            if (previousName != null) {
+                detach(tagId, previousName);
+            }
+            namesById.put(tagId, name);
+            questionCountsById.put(tagId, questionCount);
+            attach(tagId, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void renameTag(Long tagId, String name) {
+        lock.writeLock().lock();
+        try {
+            String previousName = namesById.get(tagId);
+            if (previousName == null) {
+                return;
+            }
+            detach(tagId, previousName);
+            namesById.put(tagId, name);
+            attach(tagId, name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void updateQuestionCount(Long tagId, long questionCount) {
+        lock.writeLock().lock();
+        try {
+            String name = namesById.get(tagId);
+            Long previousCount = questionCountsById.put(tagId, questionCount);
+            if (name != null && (previousCount == null || previousCount != questionCount)) {
+                recomputePath(name);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        ready = true;
+    }
+
+    private void attach(Long tagId, String name) {
+        String key = normalize(name);
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node());
+        }
+        node.terminalTagIds.add(tagId);
+        recomputePath(name);
+    }
+
+    private void detach(Long tagId, String name) {
+        Node node = findNode(normalize(name));
+        if (node != null) {
+            node.terminalTagIds.remove(tagId);
+            recomputePath(name);
+        }
+    }
+
+    /**
+     * 이름의 경로에 있는 노드의 상위 k를 깊은 노드부터 다시 계산하고, 태그가 하나도 남지 않은 노드는 떼어 낸다
+     */
+    private void recomputePath(String name) {
+        String key = normalize(name);
+        Node[] path = new Node[key.length() + 1];
+        path[0] = root;
+        int depth = 0;
+        while (depth < key.length() && path[depth] != null) {
+            path[depth + 1] = path[depth].children.get(key.charAt(depth));
+            depth++;
+        }
+        for (int i = key.length(); i >= 0; i--) {
+            Node node = path[i];
+            if (node == null) {
+                continue;
+            }
+            recompute(node);
+            if (i > 0 && node.top.length == 0 && node.children.isEmpty()) {
+                path[i - 1].children.remove(key.charAt(i - 1));
+            }
+        }
+    }
+
+    private void recompute(Node node) {
+        List<Long> candidates = new ArrayList<>(node.terminalTagIds);
+        for (Node child : node.children.values()) {
+            for (long tagId : child.top) {
+                candidates.add(tagId);
+            }
+        }
+        if (candidates.isEmpty()) {
+            node.top = EMPTY;
+            return;
+        }
+        candidates.sort(ranking);
+        node.top = candidates.stream()
+                .limit(topK)
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    private Node findNode(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    private static String normalize(String name) {
+        return name != null ? name.strip().toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>(4);
+        private final List<Long> terminalTagIds = new ArrayList<>(1);
+        private long[] top = EMPTY;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.tech_interview_buddy.domain.search;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 태그 자동완성 후보
+ */
+@Getter
+@Builder
+public class TagSuggestion {
+    private Long id;
+    private String name;
+    private long questionCount;
+}
@@ -3,15 +3,19 @@ package com.example.tech_interview_buddy.domain.service;
 import com.example.tech_interview_buddy.domain.Answer;
 import com.example.tech_interview_buddy.domain.Question;
 import com.example.tech_interview_buddy.domain.User;
+import com.example.tech_interview_buddy.domain.event.AnswerCreatedEvent;
+import com.example.tech_interview_buddy.domain.event.AnswerDeletedEvent;
 import com.example.tech_interview_buddy.domain.repository.AnswerRepository;
 import com.example.tech_interview_buddy.domain.repository.QuestionRepository;
 import com.example.tech_interview_buddy.domain.repository.QuestionRepositoryImpl;
+import com.example.tech_interview_buddy.domain.search.SolvedHistory;
+import com.example.tech_interview_buddy.domain.search.SolvedQuestionCache;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
-import java.util.Set;
 
 /**
  * Domain 서비스: Answer 도메인 로직
@@ -22,10 +26,15 @@ import java.util.Set;
 public class AnswerService {
     private final AnswerRepository answerRepository;
     private final QuestionRepository questionRepository;
+    private final SolvedQuestionCache solvedQuestionCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AnswerService(AnswerRepository answerRepository, QuestionRepository questionRepository) {
+    public AnswerService(AnswerRepository answerRepository, QuestionRepository questionRepository,
+                         SolvedQuestionCache solvedQuestionCache, ApplicationEventPublisher eventPublisher) {
         this.answerRepository = answerRepository;
         this.questionRepository = questionRepository;
+        this.solvedQuestionCache = solvedQuestionCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -50,7 +59,12 @@ public class AnswerService {
                 .content(content)
                 .build();
 
-        return answerRepository.save(answer);
+        Answer saved = answerRepository.save(answer);
+        eventPublisher.publishEvent(AnswerCreatedEvent.builder()
+                .userId(userId)
+                .questionId(questionId)
+                .build());
+        return saved;
     }
 
     @Transactional
@@ -76,13 +90,20 @@ public class AnswerService {
         }
 
         answerRepository.delete(answer);
+        eventPublisher.publishEvent(AnswerDeletedEvent.builder()
+                .userId(userId)
+                .questionId(answer.getQuestion().getId())
+                .build());
     }
 
     public Optional<Answer> getMyAnswer(Long questionId, Long userId) {
         return answerRepository.findByUserIdAndQuestionId(userId, questionId);
     }
 
-    public Set<Long> getSolvedQuestionIdsByUserAndQuestions(Long userId, java.util.List<Long> questionIds) {
-        return answerRepository.findQuestionIdsByUserIdAndQuestionIds(userId, questionIds);
+    /**
+     * 사용자의 풀이 이력 (추천 개인화용, 비트맵은 수정하면 안 됩니다)
+     */
+    public SolvedHistory getSolvedHistory(Long userId) {
+        return solvedQuestionCache.getSolvedHistory(userId);
     }
 }
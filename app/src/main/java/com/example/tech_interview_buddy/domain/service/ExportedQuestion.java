@@ -0,0 +1,19 @@
+package com.example.tech_interview_buddy.domain.service;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 내보내기 한 건 (추천 서비스 스냅샷 NDJSON 한 줄과 같은 구성)
+ */
+@Getter
+@Builder
+public class ExportedQuestion {
+    private Long id;
+    private String content;
+    private Category category;
+    private List<String> tags;
+}
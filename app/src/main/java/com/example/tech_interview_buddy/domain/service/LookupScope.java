@@ -0,0 +1,105 @@
+package com.example.tech_interview_buddy.domain.service;
+
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 한 요청 안의 독립적인 조회를 묶는 구조적 동시성 스코프
+ * Java 21의 StructuredTaskScope는 preview라 가상 스레드 executor로 ShutdownOnFailure와 같은 규칙을 구현한다.
+ * fork한 작업은 join에서 모두 끝나야 하고, 하나라도 실패하거나 데드라인을 넘기면 진행 중인 나머지를 취소한다.
+ * 각 작업은 자기 가상 스레드에서 별도의 읽기 전용 트랜잭션(커넥션)으로 실행된다.
+ */
+public class LookupScope implements AutoCloseable {
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final long deadlineNanos;
+    private final ExecutorService executor;
+    private final CompletionService<Object> completionService;
+    private final List<Future<Object>> forks = new ArrayList<>();
+
+    LookupScope(TransactionTemplate readOnlyTransaction, long timeoutMillis, boolean parallel) {
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        this.executor = parallel ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        this.completionService = parallel ? new ExecutorCompletionService<>(executor) : null;
+    }
+
+    /**
+     * 작업을 시작한다. 순차 모드면 바로 실행하고, 결과는 join 이후에만 꺼낼 수 있다.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Supplier<T> fork(Callable<T> task) {
+        if (executor == null) {
+            T result = readOnlyTransaction.execute(status -> call(task));
+            return () -> result;
+        }
+        Future<Object> future = completionService.submit(() -> readOnlyTransaction.execute(status -> call(task)));
+        forks.add(future);
+        return () -> (T) future.resultNow();
+    }
+
+    /**
+     * fork한 작업이 모두 끝날 때까지 기다린다.
+     * 먼저 실패한 작업의 예외를 그대로 던지고, 데드라인을 넘기면 QueryTimeoutException을 던진다.
+     */
+    public void join() {
+        if (executor == null) {
+            return;
+        }
+        try {
+            for (int completed = 0; completed < forks.size(); completed++) {
+                long remaining = deadlineNanos - System.nanoTime();
+                Future<Object> done = completionService.poll(Math.max(remaining, 0L), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    cancelAll();
+                    throw new QueryTimeoutException("Search lookups exceeded the deadline");
+                }
+                done.get();
+            }
+        } catch (ExecutionException e) {
+            cancelAll();
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Search lookup failed", e.getCause());
+        } catch (InterruptedException e) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Search lookup interrupted", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executor != null) {
+            cancelAll();
+            executor.shutdownNow();
+        }
+    }
+
+    private void cancelAll() {
+        forks.forEach(future -> future.cancel(true));
+    }
+
+    private static <T> T call(Callable<T> task) {
+        try {
+            return task.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.tech_interview_buddy.domain.service;
 
+import com.example.tech_interview_buddy.domain.search.QuestionCounter;
+import com.example.tech_interview_buddy.domain.search.QuestionFilterIndex;
+import com.example.tech_interview_buddy.domain.search.TagDictionary;
 import com.example.tech_interview_buddy.domain.spec.QuestionSearchSpec;
 import com.example.tech_interview_buddy.domain.repository.QuestionRepository;
 import lombok.RequiredArgsConstructor;
@@ -7,16 +10,23 @@ import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.OptionalLong;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class QuestionCountService {
 
     private final QuestionRepository questionRepository;
+    private final QuestionCounter questionCounter;
+    private final QuestionFilterIndex questionFilterIndex;
+    private final TagDictionary tagDictionary;
 
     /**
      * 검색 조건에 맞는 질문의 총 개수를 반환합니다.
-     * 결과는 1시간 동안 캐싱되어 성능을 최적화합니다.
+     * 카테고리/태그 조건만 있으면 인메모리 카운터로 정확한 개수를 바로 계산하고,
+     * 키워드나 풀이 여부 조건이 있을 때만 COUNT 쿼리 결과를 1시간 동안 캐싱합니다.
      *
      * @param spec 검색 조건
      * @param currentUserId 현재 사용자 ID
@@ -24,9 +34,43 @@ public class QuestionCountService {
      */
     @Cacheable(
         value = "questionCount",
-        key = "(#spec != null && #spec.category != null ? #spec.category.toString() : 'null') + ':' + (#spec != null && #spec.keyword != null ? #spec.keyword : 'null') + ':' + (#spec != null && #spec.tags != null ? #spec.tags.toString() : 'null') + ':' + (#spec != null && #spec.isSolved != null ? #spec.isSolved.toString() : 'null') + ':' + (#currentUserId != null ? #currentUserId.toString() : 'null')"
+        condition = "#spec != null && (#spec.keyword != null || #spec.isSolved != null)",
+        key = "(#spec != null && #spec.category != null ? #spec.category.toString() : 'null') + ':' + (#spec != null && #spec.keyword != null ? #spec.keyword : 'null') + ':' + (#spec != null && #spec.tags != null ? #spec.tags.toString() : 'null') + ':' + (#spec != null ? #spec.matchAllTags : 'false') + ':' + (#spec != null && #spec.isSolved != null ? #spec.isSolved.toString() : 'null') + ':' + (#currentUserId != null ? #currentUserId.toString() : 'null')"
     )
     public long getTotalCount(QuestionSearchSpec spec, Long currentUserId) {
+        OptionalLong exactCount = findIndexedCount(spec);
+        if (exactCount.isPresent()) {
+            return exactCount.getAsLong();
+        }
         return questionRepository.countQuestions(spec, currentUserId);
     }
+
+    /**
+     * 🚀 카운터는 커밋된 쓰기마다 증감되므로 캐시 없이도 항상 정확하다
+     * 태그가 여러 개면(ANY/ALL) 카운터로 합산할 수 없어 비트맵 연산 결과의 개수를 사용한다
+     *
+     * @return 인메모리로 셀 수 없는 조건(키워드/풀이 여부)이거나 인덱스가 준비되지 않았으면 empty
+     */
+    public OptionalLong findIndexedCount(QuestionSearchSpec spec) {
+        if (spec == null) {
+            return questionCounter.isReady() ? OptionalLong.of(questionCounter.count(null)) : OptionalLong.empty();
+        }
+        boolean hasKeyword = spec.getKeyword() != null && !spec.getKeyword().isBlank();
+        if (hasKeyword || spec.getIsSolved() != null || !questionCounter.isReady()) {
+            return OptionalLong.empty();
+        }
+
+        List<String> tags = spec.getTags();
+        if (tags == null || tags.isEmpty()) {
+            return OptionalLong.of(questionCounter.count(spec.getCategory()));
+        }
+        if (tags.size() == 1) {
+            return OptionalLong.of(tagDictionary.findId(tags.get(0))
+                .map(tagId -> questionCounter.count(spec.getCategory(), tagId))
+                .orElse(0L));
+        }
+        return questionFilterIndex.match(spec.getCategory(), tags, spec.isMatchAllTags())
+            .map(ids -> OptionalLong.of(ids.getLongCardinality()))
+            .orElse(OptionalLong.empty());
+    }
 }
@@ -0,0 +1,67 @@
+package com.example.tech_interview_buddy.domain.service;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+import com.example.tech_interview_buddy.domain.Tag;
+import com.example.tech_interview_buddy.domain.repository.QuestionExportRepository;
+import com.example.tech_interview_buddy.domain.repository.TagRepository;
+import com.example.tech_interview_buddy.domain.search.TagDictionary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 질문 전체 내보내기 (오프라인 분석, 추천 서비스 스냅샷용)
+ * 트랜잭션을 열지 않는다: 질문과 태그를 조인 한 문장으로 읽으므로 그 문장 하나가 일관된 스냅샷을 본다
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class QuestionExportService {
+
+    private final QuestionExportRepository questionExportRepository;
+    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+
+    /**
+     * 조건에 맞는 질문을 id 순서로 태그 이름과 함께 하나씩 넘긴다 (전체를 메모리에 올리지 않음)
+     *
+     * @param tagName 이 태그가 붙은 질문만 (없는 태그면 결과 없음)
+     */
+    public void exportQuestions(Category category, String tagName, Long afterId, Consumer<ExportedQuestion> action) {
+        Long tagId = null;
+        if (tagName != null && !tagName.isBlank()) {
+            Optional<Long> found = findTagId(tagName.trim());
+            if (found.isEmpty()) {
+                return;
+            }
+            tagId = found.get();
+        }
+        questionExportRepository.forEach(category, tagId, afterId, tagNames(), action);
+    }
+
+    private Optional<Long> findTagId(String name) {
+        if (tagDictionary.isReady()) {
+            return tagDictionary.findId(name);
+        }
+        return tagRepository.findByName(name).map(Tag::getId);
+    }
+
+    /**
+     * 🚀 태그 이름은 연결마다 조인하지 않고 메모리 사전에서 찾는다 (사전 적재 전이면 태그 테이블을 한 번 읽어 둔다)
+     */
+    private LongFunction<String> tagNames() {
+        if (tagDictionary.isReady()) {
+            return tagId -> tagDictionary.findName(tagId).orElse(null);
+        }
+        Map<Long, String> names = tagRepository.findAll().stream()
+            .collect(Collectors.toMap(Tag::getId, Tag::getName));
+        return names::get;
+    }
+}
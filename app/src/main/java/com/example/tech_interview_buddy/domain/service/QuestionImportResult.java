@@ -0,0 +1,17 @@
+package com.example.tech_interview_buddy.domain.service;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 대량 가져오기 결과 요약
+ */
+@Getter
+@Builder
+public class QuestionImportResult {
+    private long importedCount;
+    private long questionTagCount;
+    private long createdTagCount;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+}
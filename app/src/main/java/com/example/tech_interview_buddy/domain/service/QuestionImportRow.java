@@ -0,0 +1,19 @@
+package com.example.tech_interview_buddy.domain.service;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 대량 가져오기 입력 한 줄 (오류 메시지용 원본 줄 번호 포함)
+ */
+@Getter
+@Builder
+public class QuestionImportRow {
+    private long lineNumber;
+    private String content;
+    private Category category;
+    private List<String> tags;
+}
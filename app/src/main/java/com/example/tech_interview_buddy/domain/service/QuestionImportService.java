@@ -0,0 +1,212 @@
+package com.example.tech_interview_buddy.domain.service;
+
+import com.example.tech_interview_buddy.domain.Question;
+import com.example.tech_interview_buddy.domain.QuestionTag;
+import com.example.tech_interview_buddy.domain.Tag;
+import com.example.tech_interview_buddy.domain.event.QuestionCreatedEvent;
+import com.example.tech_interview_buddy.domain.event.QuestionTagsChangedEvent;
+import com.example.tech_interview_buddy.domain.event.TagCreatedEvent;
+import com.example.tech_interview_buddy.domain.repository.TagRepository;
+import com.example.tech_interview_buddy.domain.search.TagDictionary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 질문 대량 가져오기
+ * 입력을 chunk-size 단위로 끊어 청크마다 트랜잭션을 커밋한다 (전체가 하나의 트랜잭션이 아니므로, 중간에 실패하면 앞 청크까지는 반영된다).
+ * 질문/연결 INSERT는 JDBC 배치로 묶고, 태그는 청크 단위로 한 번에 조회/생성한다.
+ * 인메모리 인덱스는 청크 커밋 후 단건 생성과 같은 이벤트로 갱신된다.
+ */
+@Slf4j
+@Service
+public class QuestionImportService {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+    private final int jdbcBatchSize;
+
+    public QuestionImportService(TagRepository tagRepository,
+                                 TagDictionary tagDictionary,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${question.import.chunk-size:5000}") int chunkSize,
+                                 @Value("${question.import.jdbc-batch-size:1000}") int jdbcBatchSize) {
+        this.tagRepository = tagRepository;
+        this.tagDictionary = tagDictionary;
+        this.eventPublisher = eventPublisher;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    public QuestionImportResult importQuestions(Iterator<QuestionImportRow> rows) {
+        long startNanos = System.nanoTime();
+        long imported = 0;
+        long questionTags = 0;
+        long createdTags = 0;
+        List<QuestionImportRow> chunk = new ArrayList<>(chunkSize);
+
+        while (rows.hasNext()) {
+            chunk.add(validate(rows.next()));
+            if (chunk.size() == chunkSize || !rows.hasNext()) {
+                ChunkResult result = chunkTransaction.execute(status -> importChunk(chunk));
+                imported += chunk.size();
+                questionTags += result.questionTags();
+                createdTags += result.createdTags();
+                chunk.clear();
+                log.info("질문 가져오기 진행: {}건 ({}건/s)", imported, rowsPerSecond(imported, startNanos));
+            }
+        }
+
+        return QuestionImportResult.builder()
+            .importedCount(imported)
+            .questionTagCount(questionTags)
+            .createdTagCount(createdTags)
+            .elapsedMillis((System.nanoTime() - startNanos) / 1_000_000)
+            .rowsPerSecond(rowsPerSecond(imported, startNanos))
+            .build();
+    }
+
+    private ChunkResult importChunk(List<QuestionImportRow> chunk) {
+        // 🚀 이 세션에서만 INSERT를 jdbc-batch-size개씩 묶는다 (id는 테이블 구간 할당이라 배치가 끊기지 않음)
+        entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+
+        Map<String, Long> tagIds = new HashMap<>();  // TagDictionary.normalize한 이름 → id
+        List<Tag> createdTags = resolveTags(chunk, tagIds);
+
+        // 질문을 모두 persist한 뒤 연결을 persist해야 같은 테이블 INSERT끼리 연속되어 배치로 묶인다
+        List<Question> questions = new ArrayList<>(chunk.size());
+        for (QuestionImportRow row : chunk) {
+            Question question = Question.builder()
+                .content(row.getContent())
+                .category(row.getCategory())
+                .build();
+            entityManager.persist(question);
+            questions.add(question);
+        }
+
+        List<Set<Long>> questionTagIds = new ArrayList<>(chunk.size());
+        long questionTags = 0;
+        for (int i = 0; i < chunk.size(); i++) {
+            Set<Long> ids = new LinkedHashSet<>();
+            for (String name : chunk.get(i).getTags()) {
+                ids.add(tagIds.get(TagDictionary.normalize(name)));
+            }
+            for (Long tagId : ids) {
+                entityManager.persist(QuestionTag.builder()
+                    .question(questions.get(i))
+                    .tag(entityManager.getReference(Tag.class, tagId))
+                    .build());
+            }
+            questionTagIds.add(ids);
+            questionTags += ids.size();
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        for (Tag tag : createdTags) {
+            eventPublisher.publishEvent(TagCreatedEvent.builder()
+                .tagId(tag.getId())
+                .name(tag.getName())
+                .build());
+        }
+        for (int i = 0; i < questions.size(); i++) {
+            Question question = questions.get(i);
+            eventPublisher.publishEvent(QuestionCreatedEvent.builder()
+                .questionId(question.getId())
+                .content(question.getContent())
+                .category(question.getCategory())
+                .build());
+            if (!questionTagIds.get(i).isEmpty()) {
+                eventPublisher.publishEvent(QuestionTagsChangedEvent.builder()
+                    .questionId(question.getId())
+                    .category(question.getCategory())
+                    .addedTagIds(questionTagIds.get(i))
+                    .removedTagIds(Set.of())
+                    .build());
+            }
+        }
+        return new ChunkResult(questionTags, createdTags.size());
+    }
+
+    /**
+     * 청크에 나온 태그 이름을 id로 바꾼다: 태그 사전 → 남은 이름만 IN 조회 → 그래도 없으면 생성
+     * DB 콜레이션처럼 대소문자를 구분하지 않도록 TagDictionary.normalize한 이름을 키로 쓴다.
+     */
+    private List<Tag> resolveTags(List<QuestionImportRow> chunk, Map<String, Long> tagIds) {
+        Map<String, String> unknown = new LinkedHashMap<>();  // 정규화한 이름 → 처음 나온 이름
+        for (QuestionImportRow row : chunk) {
+            for (String name : row.getTags()) {
+                String key = TagDictionary.normalize(name);
+                if (tagIds.containsKey(key) || unknown.containsKey(key)) {
+                    continue;
+                }
+                Optional<Long> id = tagDictionary.isReady() ? tagDictionary.findId(name) : Optional.empty();
+                if (id.isPresent()) {
+                    tagIds.put(key, id.get());
+                } else {
+                    unknown.put(key, name);
+                }
+            }
+        }
+        if (unknown.isEmpty()) {
+            return List.of();
+        }
+
+        for (Tag tag : tagRepository.findByNameIn(unknown.values())) {
+            String key = TagDictionary.normalize(tag.getName());
+            if (unknown.remove(key) != null) {
+                tagIds.put(key, tag.getId());
+            }
+        }
+        List<Tag> created = new ArrayList<>(unknown.size());
+        for (Map.Entry<String, String> entry : unknown.entrySet()) {
+            Tag tag = Tag.builder().name(entry.getValue()).build();
+            entityManager.persist(tag);
+            tagIds.put(entry.getKey(), tag.getId());
+            created.add(tag);
+        }
+        return created;
+    }
+
+    private QuestionImportRow validate(QuestionImportRow row) {
+        if (row.getContent() == null || row.getContent().isBlank()) {
+            throw new IllegalArgumentException("Line " + row.getLineNumber() + ": content is required");
+        }
+        if (row.getCategory() == null) {
+            throw new IllegalArgumentException("Line " + row.getLineNumber() + ": category is required");
+        }
+        return row;
+    }
+
+    private static long rowsPerSecond(long rows, long startNanos) {
+        long elapsedNanos = Math.max(1L, System.nanoTime() - startNanos);
+        return rows * 1_000_000_000L / elapsedNanos;
+    }
+
+    private record ChunkResult(long questionTags, int createdTags) {
+    }
+}
@@ -1,20 +1,25 @@
 package com.example.tech_interview_buddy.domain.service;
 
-import com.example.tech_interview_buddy.domain.Question;
+import com.example.tech_interview_buddy.common.domain.Category;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * Question 검색 결과를 담는 도메인 객체
- * Question과 함께 추가 정보(태그, solved 상태)를 포함
+ * 질문 컬럼과 추가 정보(태그, solved 상태)를 한 번의 프로젝션 쿼리로 채운다 (엔티티를 영속성 컨텍스트에 올리지 않음)
  */
 @Getter
 @Builder
 public class QuestionSearchResult {
-    private Question question;
-    private boolean isSolved;
+    private Long id;
+    private String content;
+    private Category category;
+    private Boolean questionSolved;  // question.is_solved 컬럼 (isSolved 정렬 커서용)
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private boolean isSolved;  // 현재 사용자의 풀이 여부
     private List<String> tags;
 }
-
@@ -5,25 +5,38 @@ import com.example.tech_interview_buddy.domain.Answer;
 import com.example.tech_interview_buddy.domain.Question;
 import com.example.tech_interview_buddy.domain.QuestionTag;
 import com.example.tech_interview_buddy.domain.User;
+import com.example.tech_interview_buddy.domain.event.QuestionCreatedEvent;
+import com.example.tech_interview_buddy.domain.event.QuestionDeletedEvent;
+import com.example.tech_interview_buddy.domain.event.QuestionTagsChangedEvent;
+import com.example.tech_interview_buddy.domain.event.QuestionUpdatedEvent;
+import com.example.tech_interview_buddy.domain.search.QuestionSearchEngine;
 import com.example.tech_interview_buddy.domain.spec.QuestionSearchSpec;
 import com.example.tech_interview_buddy.domain.repository.QuestionRepository;
 import com.example.tech_interview_buddy.domain.repository.QuestionTagRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Supplier;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -33,6 +46,10 @@ public class QuestionService {
     private final AnswerService answerService;
     private final QuestionCountService questionCountService;
     private final QuestionTagRepository questionTagRepository;
+    private final TagService tagService;
+    private final QuestionSearchEngine questionSearchEngine;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SearchLookupExecutor searchLookupExecutor;
 
     public Question findById(Long id) {
         return questionRepository.findById(id)
@@ -42,64 +59,36 @@ public class QuestionService {
     /**
      * 동적 쿼리를 사용한 통합 검색 메서드
      * Domain 기반 검색 결과 반환 (DTO 변환은 API 계층에서 처리)
+     * 조회는 LookupScope의 작업별 트랜잭션에서 실행되므로 바깥 트랜잭션(커넥션)은 열지 않는다.
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Page<QuestionSearchResult> searchQuestions(QuestionSearchSpec spec, Long currentUserId) {
         long startTime = System.currentTimeMillis();
 
         Pageable pageable = createPageable(spec);
 
-        // 캐싱된 총 개수 조회 (1시간마다 갱신)
-        long totalCount = questionCountService.getTotalCount(spec, currentUserId);
-        long countTime = System.currentTimeMillis();
-        System.out.println("COUNT 조회 시간 (캐시): " + (countTime - startTime) + "ms");
-
-        // 질문 조회
-        Page<Question> questions = questionRepository.searchQuestions(spec, pageable, currentUserId);
-        long queryTime = System.currentTimeMillis();
-        System.out.println("DB 쿼리 시간: " + (queryTime - countTime) + "ms");
-
-        // Question ID 추출 (결과 20개만)
-        List<Long> questionIds = questions.getContent().stream()
-            .map(Question::getId)
-            .toList();
-
-        // 🚀 성능 최적화: 조회된 20개 질문에 대해서만 Solved 여부 확인
-        Set<Long> solvedQuestionIds = answerService.getSolvedQuestionIdsByUserAndQuestions(
-            currentUserId, 
-            questionIds
-        );
-        long solvedIdsTime = System.currentTimeMillis();
-        System.out.println("Solved IDs 조회 시간 (최적화): " + (solvedIdsTime - queryTime) + "ms");
-        
-        // QuestionTag 배치 조회 (IN 쿼리 1번) - 120만 레코드 JOIN 제거!
-        List<QuestionTag> questionTags = Collections.emptyList();
-        if (!questionIds.isEmpty()) {
-            questionTags = questionTagRepository.findByQuestionIdsWithTag(questionIds);
+        // 🚀 키워드는 인메모리 n-gram 역색인으로 후보 ID를 먼저 구함 (LIKE '%kw%' 풀스캔 회피)
+        Roaring64Bitmap keywordCandidates = findKeywordCandidates(spec);
+        if (keywordCandidates != null && keywordCandidates.isEmpty()) {
+            return new PageImpl<>(Collections.emptyList(), pageable, 0);
+        }
+
+        // 🚀 COUNT와 페이지 조회는 서로 독립적이므로 가상 스레드에서 각자의 읽기 전용 커넥션으로 동시에 실행
+        // (페이지 지연 = 두 조회의 합이 아니라 최댓값)
+        Page<QuestionSearchResult> result;
+        try (LookupScope scope = searchLookupExecutor.openScope()) {
+            Supplier<Long> totalCount = forkTotalCount(scope, spec, currentUserId);
+            Supplier<Page<QuestionSearchResult>> questions = scope.fork(() ->
+                questionRepository.searchQuestions(spec, pageable, currentUserId, keywordCandidates));
+            scope.join();
+
+            List<QuestionSearchResult> content = questions.get().getContent();
+            result = totalCount != null
+                ? new PageImpl<>(content, pageable, totalCount.get())
+                : new PageImpl<>(content, pageable, questions.get().getTotalElements());
         }
-        long tagTime = System.currentTimeMillis();
-        System.out.println("태그 배치 조회 시간: " + (tagTime - solvedIdsTime) + "ms");
-        
-        // Question ID별로 태그 그룹화 (메모리에서)
-        Map<Long, List<String>> questionTagMap = questionTags.stream()
-            .collect(Collectors.groupingBy(
-                qt -> qt.getQuestion().getId(),
-                Collectors.mapping(qt -> qt.getTag().getName(), Collectors.toList())
-            ));
-
-        // QuestionSearchResult로 변환
-        List<QuestionSearchResult> content = questions.getContent().stream()
-            .map(question -> QuestionSearchResult.builder()
-                .question(question)
-                .isSolved(solvedQuestionIds.contains(question.getId()))
-                .tags(questionTagMap.getOrDefault(question.getId(), Collections.emptyList()))
-                .build())
-            .toList();
-        
-        Page<QuestionSearchResult> result = new PageImpl<>(content, pageable, totalCount);
-        
-        long conversionTime = System.currentTimeMillis();
-        System.out.println("결과 변환 시간: " + (conversionTime - tagTime) + "ms");
-        System.out.println("Service 총 시간: " + (conversionTime - startTime) + "ms");
+
+        log.debug("질문 검색 {}ms", System.currentTimeMillis() - startTime);
 
         return result;
     }
@@ -120,38 +109,138 @@ public class QuestionService {
         question.markAsSolved();
     }
 
+    /**
+     * @param tagNames 연결할 태그 이름 (없는 태그는 생성, null이면 태그 없이 생성)
+     */
     @Transactional
-    public Question createQuestion(String content, Category category) {
+    public Question createQuestion(String content, Category category, List<String> tagNames) {
         Question question = Question.builder()
             .content(content)
             .category(category)
             .build();
         
-        return questionRepository.save(question);
+        Question saved = questionRepository.save(question);
+        eventPublisher.publishEvent(QuestionCreatedEvent.builder()
+            .questionId(saved.getId())
+            .content(saved.getContent())
+            .category(saved.getCategory())
+            .build());
+        if (tagNames != null) {
+            assignTags(saved, Set.of(), tagNames);
+        }
+        return saved;
     }
 
+    /**
+     * @param tagNames 바꿀 태그 이름 전체 (null이면 태그는 그대로, 빈 목록이면 모두 해제)
+     */
     @Transactional
-    public Question updateQuestion(Long questionId, String content, Category category) {
+    public Question updateQuestion(Long questionId, String content, Category category, List<String> tagNames) {
         Question question = findById(questionId);
+        String previousContent = question.getContent();
+        Category previousCategory = question.getCategory();
+
         question.updateContent(content);
         question.updateCategory(category);
+
+        boolean categoryChanged = previousCategory != question.getCategory();
+        List<Long> currentTagIds = categoryChanged || tagNames != null
+            ? questionTagRepository.findTagIdsByQuestionId(questionId)
+            : List.of();
+
+        eventPublisher.publishEvent(QuestionUpdatedEvent.builder()
+            .questionId(questionId)
+            .previousContent(previousContent)
+            .content(question.getContent())
+            .previousCategory(previousCategory)
+            .category(question.getCategory())
+            .tagIds(categoryChanged ? currentTagIds : List.of())
+            .build());
+        // 카테고리 이동(위 이벤트)이 먼저 반영된 뒤 새 카테고리 기준으로 태그 차이를 반영한다
+        if (tagNames != null) {
+            assignTags(question, new HashSet<>(currentTagIds), tagNames);
+        }
         return question;
     }
 
     @Transactional
     public void deleteQuestion(Long questionId) {
-        if (!questionRepository.existsById(questionId)) {
-            throw new IllegalArgumentException("Question not found with id: " + questionId);
+        // 인덱스에서 지울 본문/카테고리가 필요하므로 존재 확인 대신 엔티티를 조회
+        Question question = findById(questionId);
+        List<Long> tagIds = questionTagRepository.findTagIdsByQuestionId(questionId);
+        questionTagRepository.deleteByQuestionId(questionId);
+        questionRepository.delete(question);
+
+        eventPublisher.publishEvent(QuestionDeletedEvent.builder()
+            .questionId(questionId)
+            .content(question.getContent())
+            .category(question.getCategory())
+            .tagIds(tagIds)
+            .build());
+    }
+
+    /**
+     * 🚀 현재/목표 태그 ID 집합의 차이만 반영한다 (빠진 연결은 DELETE 한 번, 새 연결은 배치 INSERT)
+     * Tag.questionTags 컬렉션은 건드리지 않으므로 연결이 많은 태그라도 비용은 바뀐 연결 수에만 비례한다.
+     */
+    private void assignTags(Question question, Set<Long> currentTagIds, Collection<String> tagNames) {
+        Set<Long> desiredTagIds = new LinkedHashSet<>(tagService.findOrCreateTagIds(tagNames).values());
+
+        Set<Long> removedTagIds = new HashSet<>(currentTagIds);
+        removedTagIds.removeAll(desiredTagIds);
+        Set<Long> addedTagIds = new LinkedHashSet<>(desiredTagIds);
+        addedTagIds.removeAll(currentTagIds);
+        if (addedTagIds.isEmpty() && removedTagIds.isEmpty()) {
+            return;
+        }
+
+        if (!removedTagIds.isEmpty()) {
+            questionTagRepository.deleteByQuestionIdAndTagIds(question.getId(), removedTagIds);
+        }
+        questionTagRepository.saveAll(addedTagIds.stream()
+            .map(tagId -> QuestionTag.builder()
+                .question(question)
+                .tag(tagService.getReference(tagId))
+                .build())
+            .toList());
+
+        eventPublisher.publishEvent(QuestionTagsChangedEvent.builder()
+            .questionId(question.getId())
+            .category(question.getCategory())
+            .addedTagIds(addedTagIds)
+            .removedTagIds(removedTagIds)
+            .build());
+    }
+
+    /**
+     * 커서 모드에서는 총 개수 대신 limit+1 결과로 다음 페이지 여부를 판단하므로 COUNT를 띄우지 않고,
+     * 인메모리 카운터로 셀 수 있으면 커넥션을 잡는 작업을 만들지 않는다.
+     */
+    private Supplier<Long> forkTotalCount(LookupScope scope, QuestionSearchSpec spec, Long currentUserId) {
+        if (spec.getCursor() != null) {
+            return null;
+        }
+        OptionalLong indexedCount = questionCountService.findIndexedCount(spec);
+        if (indexedCount.isPresent()) {
+            return indexedCount::getAsLong;
+        }
+        return scope.fork(() -> questionCountService.getTotalCount(spec, currentUserId));
+    }
+
+    private Roaring64Bitmap findKeywordCandidates(QuestionSearchSpec spec) {
+        if (spec.getKeyword() == null || spec.getKeyword().isBlank()) {
+            return null;
         }
-        questionRepository.deleteById(questionId);
+        return questionSearchEngine.search(spec.getKeyword().trim()).orElse(null);
     }
 
     private Pageable createPageable(QuestionSearchSpec spec) {
         Sort.Direction sortDirection = "asc".equalsIgnoreCase(spec.getSortDirection()) 
             ? Sort.Direction.ASC 
             : Sort.Direction.DESC;
+        // 커서가 있으면 위치는 커서가 결정하므로 항상 첫 페이지 기준으로 조회
         return PageRequest.of(
-            spec.getPage(), 
+            spec.getCursor() != null ? 0 : spec.getPage(), 
             spec.getSize(), 
             Sort.by(sortDirection, spec.getSortField())
         );
@@ -0,0 +1,96 @@
+package com.example.tech_interview_buddy.domain.service;
+
+import com.example.tech_interview_buddy.domain.RefreshToken;
+import com.example.tech_interview_buddy.domain.User;
+import com.example.tech_interview_buddy.domain.repository.RefreshTokenRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+
+/**
+ * Domain 서비스: 리프레시 토큰 발급/교체
+ * 토큰은 추측할 수 없는 난수라 비밀번호처럼 느린 해시가 필요 없으므로 SHA-256으로만 저장하고,
+ * 갱신은 BCrypt 검증 없이 인덱스 조회 한 번으로 끝난다. 한 번 쓴 토큰은 삭제되고 새 토큰으로 교체된다.
+ */
+@Service
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Duration validity;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               @Value("${jwt.refresh-expiration:2592000000}") long validityInMilliseconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.validity = Duration.ofMillis(validityInMilliseconds);
+    }
+
+    /**
+     * 새 리프레시 토큰을 발급하고 원문을 반환한다 (원문은 저장하지 않는다)
+     */
+    @Transactional
+    public String issue(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        // 사용자의 만료된 토큰은 발급할 때 함께 정리한다 (user_id 인덱스)
+        refreshTokenRepository.deleteExpiredByUserId(user.getId(), now);
+
+        byte[] random = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(random);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .tokenHash(hash(token))
+                .expiresAt(now.plus(validity))
+                .build());
+        return token;
+    }
+
+    /**
+     * 리프레시 토큰을 소비하고 같은 사용자에게 새 토큰을 발급한다.
+     * 없거나 만료되었거나 이미 쓰인 토큰이면 IllegalArgumentException
+     * 만료된 토큰의 삭제는 예외와 함께 커밋되어야 하므로 IllegalArgumentException으로는 롤백하지 않는다.
+     */
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public RotatedRefreshToken rotate(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+        String tokenHash = hash(token);
+        RefreshToken refreshToken = refreshTokenRepository.findWithUserByTokenHash(tokenHash)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+
+        // 동시에 같은 토큰으로 갱신하면 삭제에 성공한 한 요청만 새 토큰을 받는다
+        if (refreshTokenRepository.deleteByTokenHash(tokenHash) != 1) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+        if (refreshToken.isExpired(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Refresh token expired");
+        }
+
+        User user = refreshToken.getUser();
+        return RotatedRefreshToken.builder()
+                .user(user)
+                .refreshToken(issue(user))
+                .build();
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.tech_interview_buddy.domain.service;
+
+import com.example.tech_interview_buddy.domain.User;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 리프레시 토큰 교체 결과 (토큰 주인과 새 리프레시 토큰 원문)
+ */
+@Getter
+@Builder
+public class RotatedRefreshToken {
+    private User user;
+    private String refreshToken;
+}
@@ -0,0 +1,35 @@
+package com.example.tech_interview_buddy.domain.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 검색 요청의 독립 조회(COUNT, 페이지 조회)를 실행할 스코프를 연다.
+ * search.lookup.parallel=true면 가상 스레드로 동시에, false면 같은 규칙으로 순차 실행한다.
+ */
+@Component
+public class SearchLookupExecutor {
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean parallel;
+    private final long timeoutMillis;
+
+    public SearchLookupExecutor(PlatformTransactionManager transactionManager,
+                                @Value("${search.lookup.parallel:true}") boolean parallel,
+                                @Value("${search.lookup.timeout-ms:3000}") long timeoutMillis) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // 데드라인을 넘긴 쿼리는 DB에서도 끊기도록 트랜잭션 타임아웃(초)을 함께 건다
+        this.readOnlyTransaction.setTimeout((int) Math.max(1L, (timeoutMillis + 999) / 1000));
+        this.parallel = parallel;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public LookupScope openScope() {
+        return new LookupScope(readOnlyTransaction, timeoutMillis, parallel);
+    }
+}
@@ -1,13 +1,25 @@
 package com.example.tech_interview_buddy.domain.service;
 
 import com.example.tech_interview_buddy.domain.Tag;
+import com.example.tech_interview_buddy.domain.event.TagCreatedEvent;
+import com.example.tech_interview_buddy.domain.event.TagRenamedEvent;
 import com.example.tech_interview_buddy.domain.repository.TagRepository;
+import com.example.tech_interview_buddy.domain.search.TagDictionary;
+import com.example.tech_interview_buddy.domain.search.TagSuggestIndex;
+import com.example.tech_interview_buddy.domain.search.TagSuggestion;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -15,6 +27,9 @@ import java.util.Optional;
 public class TagService {
     
     private final TagRepository tagRepository;
+    private final TagDictionary tagDictionary;
+    private final TagSuggestIndex tagSuggestIndex;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public Tag createTag(String name, String description) {
@@ -23,7 +38,12 @@ public class TagService {
             .description(description)
             .build();
         
-        return tagRepository.save(tag);
+        Tag saved = tagRepository.save(tag);
+        eventPublisher.publishEvent(TagCreatedEvent.builder()
+            .tagId(saved.getId())
+            .name(saved.getName())
+            .build());
+        return saved;
     }
     
     public Tag findById(Long id) {
@@ -31,16 +51,109 @@ public class TagService {
             .orElseThrow(() -> new IllegalArgumentException("Tag not found with id: " + id));
     }
     
+    /**
+     * 태그 이름 변경 (커밋 후 태그 사전에 반영)
+     * 대소문자만 바꾸는 변경은 허용하고, 다른 태그가 이미 쓰는 이름이면 거부한다.
+     */
+    @Transactional
+    public Tag renameTag(Long id, String name) {
+        String trimmed = name != null ? name.trim() : "";
+        if (trimmed.isEmpty()) {
+            throw new IllegalArgumentException("Tag name must not be blank");
+        }
+        Tag tag = findById(id);
+        tagRepository.findByName(trimmed)
+            .filter(existing -> !existing.getId().equals(id))
+            .ifPresent(existing -> {
+                throw new IllegalArgumentException("Tag already exists: " + trimmed);
+            });
+        String previousName = tag.getName();
+        tag.updateName(trimmed);
+        eventPublisher.publishEvent(TagRenamedEvent.builder()
+            .tagId(tag.getId())
+            .previousName(previousName)
+            .name(trimmed)
+            .build());
+        return tag;
+    }
+
+    /**
+     * 🚀 태그 사전이 적재되어 있으면 없는 이름은 DB 조회 없이 바로 empty, 있는 이름은 PK로 조회
+     */
     public Optional<Tag> findByName(String name) {
+        if (tagDictionary.isReady()) {
+            return tagDictionary.findId(name).flatMap(tagRepository::findById);
+        }
         return tagRepository.findByName(name);
     }
     
+    /**
+     * 접두사로 시작하는 태그를 질문 수 순으로 (인메모리 트라이, 트랜잭션/커넥션 없음)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TagSuggestion> suggestTags(String prefix, int limit) {
+        return tagSuggestIndex.suggest(prefix, limit);
+    }
+
     public List<Tag> findAllTags() {
         return tagRepository.findAll();
     }
     
+    /**
+     * 질문-태그 연결용 태그 참조
+     * 🚀 사전에 있는 태그는 조회 없이 ID 참조(프록시)만 돌려준다
+     */
+    @Transactional
     public Tag findOrCreateTag(String name) {
-        return findByName(name)
+        if (tagDictionary.isReady()) {
+            Optional<Long> tagId = tagDictionary.findId(name);
+            if (tagId.isPresent()) {
+                return tagRepository.getReferenceById(tagId.get());
+            }
+        }
+        return tagRepository.findByName(name)
             .orElseGet(() -> createTag(name, null));
     }
+
+    /**
+     * 태그 이름 목록을 ID로 바꾼다 (앞뒤 공백 제거, 빈 이름/중복 제외, 입력 순서 유지)
+     * 이름은 DB 콜레이션처럼 대소문자를 구분하지 않으므로 TagDictionary.normalize 기준으로 중복을 거르고 조회 결과를 맞춘다.
+     * 🚀 사전 → 남은 이름만 IN 조회 한 번 → 그래도 없는 이름만 생성
+     */
+    @Transactional
+    public Map<String, Long> findOrCreateTagIds(Collection<String> names) {
+        Map<String, Long> tagIds = new LinkedHashMap<>();
+        Set<String> seen = new HashSet<>();
+        Map<String, String> unknown = new LinkedHashMap<>();  // 정규화한 이름 → 입력 이름
+        for (String name : names) {
+            String trimmed = name != null ? name.trim() : "";
+            if (trimmed.isEmpty() || !seen.add(TagDictionary.normalize(trimmed))) {
+                continue;
+            }
+            Optional<Long> tagId = tagDictionary.isReady() ? tagDictionary.findId(trimmed) : Optional.empty();
+            tagIds.put(trimmed, tagId.orElse(null));
+            if (tagId.isEmpty()) {
+                unknown.put(TagDictionary.normalize(trimmed), trimmed);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            for (Tag tag : tagRepository.findByNameIn(unknown.values())) {
+                String name = unknown.remove(TagDictionary.normalize(tag.getName()));
+                if (name != null) {
+                    tagIds.put(name, tag.getId());
+                }
+            }
+            for (String name : unknown.values()) {
+                tagIds.put(name, createTag(name, null).getId());
+            }
+        }
+        return tagIds;
+    }
+
+    /**
+     * 조회 없이 ID로 만든 태그 참조 (질문-태그 연결 저장용)
+     */
+    public Tag getReference(Long tagId) {
+        return tagRepository.getReferenceById(tagId);
+    }
 }
@@ -1,10 +1,12 @@
 package com.example.tech_interview_buddy.domain.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.dao.DataIntegrityViolationException;
 import com.example.tech_interview_buddy.domain.repository.UserRepository;
 import com.example.tech_interview_buddy.domain.User;
 import com.example.tech_interview_buddy.domain.UserRole;
+import com.example.tech_interview_buddy.domain.event.UserRoleChangedEvent;
 import com.example.tech_interview_buddy.common.security.PasswordEncoder;
 import jakarta.transaction.Transactional;
 import java.util.List;
@@ -18,10 +20,13 @@ import java.util.Optional;
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -56,6 +61,7 @@ public class UserService {
     public User grantAdminRole(Long userId) {
         User user = findById(userId);
         user.updateRole(UserRole.ADMIN);
+        publishRoleChanged(user);
         return user;
     }
 
@@ -67,10 +73,20 @@ public class UserService {
     public User revokeAdminRole(Long userId) {
         User user = findById(userId);
         user.updateRole(UserRole.USER);
+        publishRoleChanged(user);
         return user;
     }
 
     public List<User> findAll() {
         return userRepository.findAll();
     }
+
+    // 토큰 버전을 올리고, 커밋 후 각 서버의 토큰 버전 캐시에서 사용자를 지운다
+    private void publishRoleChanged(User user) {
+        user.increaseTokenVersion();
+        eventPublisher.publishEvent(UserRoleChangedEvent.builder()
+            .userId(user.getId())
+            .role(user.getRole())
+            .build());
+    }
 }
@@ -0,0 +1,139 @@
+package com.example.tech_interview_buddy.domain.spec;
+
+import com.example.tech_interview_buddy.common.domain.Category;
+import com.example.tech_interview_buddy.domain.service.QuestionSearchResult;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Set;
+
+/**
+ * 키셋(커서) 페이지네이션용 연속 토큰
+ * 마지막 행의 정렬 키와 ID를 담아 OFFSET 없이 다음 페이지를 조회한다.
+ * 클라이언트에게는 Base64(URL-safe) 문자열로만 노출된다.
+ * 변조되거나 형식이 맞지 않는 토큰은 decode 단계에서 모두 IllegalArgumentException(400)으로 거른다.
+ * 내용(content) 정렬 키는 앞 CONTENT_KEY_LENGTH자까지만 쓰므로 토큰 길이도 그만큼으로 제한된다.
+ */
+@Getter
+public class QuestionCursor {
+
+    private static final Set<String> SORT_FIELDS = Set.of("id", "content", "category", "createdAt", "updatedAt", "isSolved");
+    private static final String DELIMITER = "\n";
+
+    /**
+     * 내용 정렬 키 길이 (문자 수, MySQL SUBSTRING과 같은 코드 포인트 기준)
+     */
+    public static final int CONTENT_KEY_LENGTH = 100;
+
+    private final String sortField;
+    private final String sortDirection;
+    private final Long lastId;
+    private final String lastValue;  // 정렬 키 값 (null 허용: updatedAt 등)
+    private final Comparable<?> lastKey;  // 정렬 컬럼 타입으로 변환한 lastValue
+
+    private QuestionCursor(String sortField, String sortDirection, Long lastId, String lastValue) {
+        this.sortField = sortField;
+        this.sortDirection = sortDirection;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+        this.lastKey = parseKey(sortField, lastValue);
+    }
+
+    /**
+     * 현재 페이지의 마지막 검색 결과로 다음 페이지 커서를 만든다.
+     */
+    public static QuestionCursor of(String sortField, String sortDirection, QuestionSearchResult last) {
+        String field = normalizeSortField(sortField);
+        String direction = "asc".equalsIgnoreCase(sortDirection) ? "asc" : "desc";
+        return new QuestionCursor(field, direction, last.getId(), sortValue(field, last));
+    }
+
+    public static QuestionCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // 정렬 키(content)에 구분자가 포함될 수 있으므로 값은 항상 마지막에 둔다
+            String[] parts = decoded.split(DELIMITER, 4);
+            if (parts.length < 3 || !SORT_FIELDS.contains(parts[0])
+                    || !("asc".equals(parts[1]) || "desc".equals(parts[1]))) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new QuestionCursor(parts[0], parts[1], Long.valueOf(parts[2]), parts.length == 4 ? parts[3] : null);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        StringBuilder raw = new StringBuilder()
+            .append(sortField).append(DELIMITER)
+            .append(sortDirection).append(DELIMITER)
+            .append(lastId);
+        if (lastValue != null) {
+            raw.append(DELIMITER).append(lastValue);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+            .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isAscending() {
+        return "asc".equals(sortDirection);
+    }
+
+    /**
+     * 커서는 발급 당시의 정렬 조건에서만 유효하다.
+     */
+    public boolean matches(String sortField, boolean ascending) {
+        return this.sortField.equals(normalizeSortField(sortField)) && isAscending() == ascending;
+    }
+
+    public static String normalizeSortField(String sortField) {
+        return sortField != null && SORT_FIELDS.contains(sortField) ? sortField : "id";
+    }
+
+    private static Comparable<?> parseKey(String sortField, String value) {
+        if (value == null) {
+            return null;
+        }
+        return switch (sortField) {
+            case "content" -> {
+                if (value.codePointCount(0, value.length()) > CONTENT_KEY_LENGTH) {
+                    throw new IllegalArgumentException("Invalid cursor");
+                }
+                yield value;
+            }
+            case "category" -> Category.valueOf(value);
+            case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+            case "isSolved" -> parseBoolean(value);
+            default -> throw new IllegalArgumentException("Invalid cursor");  // id 정렬 커서에는 값이 없다
+        };
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if (!"true".equals(value) && !"false".equals(value)) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return Boolean.valueOf(value);
+    }
+
+    private static String sortValue(String sortField, QuestionSearchResult result) {
+        Object value = switch (sortField) {
+            case "content" -> contentKey(result.getContent());
+            case "category" -> result.getCategory() != null ? result.getCategory().name() : null;
+            case "createdAt" -> result.getCreatedAt();
+            case "updatedAt" -> result.getUpdatedAt();
+            case "isSolved" -> result.getQuestionSolved();
+            default -> null;  // id 정렬은 lastId만으로 충분
+        };
+        return value != null ? value.toString() : null;
+    }
+
+    private static String contentKey(String content) {
+        if (content == null || content.codePointCount(0, content.length()) <= CONTENT_KEY_LENGTH) {
+            return content;
+        }
+        return content.substring(0, content.offsetByCodePoints(0, CONTENT_KEY_LENGTH));
+    }
+}
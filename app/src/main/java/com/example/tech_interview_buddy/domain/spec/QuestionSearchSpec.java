@@ -16,10 +16,20 @@ public class QuestionSearchSpec {
     private Category category;
     private String keyword;
     private List<String> tags;
+    private boolean matchAllTags;  // true면 모든 태그를 가진 질문만 (기본: 하나라도)
     private Boolean isSolved;
     private int page;
     private int size;
     private String sortField;
     private String sortDirection;
+    private String cursor;  // 키셋 페이지네이션 토큰 (있으면 page 무시, 빈 문자열은 null로 저장)
+
+    public static class QuestionSearchSpecBuilder {
+        // 커서 모드 판단이 계층마다 갈리지 않도록 빈 토큰은 여기서 한 번만 "커서 없음"으로 바꾼다
+        public QuestionSearchSpecBuilder cursor(String cursor) {
+            this.cursor = cursor == null || cursor.isBlank() ? null : cursor;
+            return this;
+        }
+    }
 }
 
@@ -0,0 +1,77 @@
+package com.example.tech_interview_buddy.domain.search
+
+import org.roaringbitmap.longlong.Roaring64Bitmap
+import spock.lang.Specification
+
+class NGramQuestionSearchEngineSpec extends Specification {
+
+    def engine = new NGramQuestionSearchEngine()
+
+    def "fold 는 대소문자/악센트/전각 문자를 DB 콜레이션처럼 접고 한글 음절은 유지한다"() {
+        expect:
+        NGramQuestionSearchEngine.fold(text) == folded
+
+        where:
+        text          | folded
+        "JVM Tuning"  | "jvm tuning"
+        "Résumé"      | "resume"
+        "ＪＰＡ"       | "jpa"
+        "자바스프링"    | "자바스프링"
+        "①"           | "1"
+    }
+
+    def "본문과 같은 규칙으로 접은 키워드의 바이그램을 모두 가진 질문을 찾는다"() {
+        given:
+        engine.index(1L, "Résumé 작성법")
+        engine.index(2L, "ＪＰＡ 영속성 컨텍스트")
+        engine.index(3L, "plain jpa")
+        engine.markReady()
+
+        expect:
+        ids(engine.search(keyword).get()) == expected
+
+        where:
+        keyword | expected
+        "resume" | [1L]
+        "JPA"    | [2L, 3L]
+        "ｊｐａ"  | [2L, 3L]
+        "작성"    | [1L]
+        "영속성"  | [2L]
+        "없는말"  | []
+    }
+
+    def "준비 전이거나 바이그램이 없는 키워드는 DB 조회로 넘긴다"() {
+        given:
+        engine.index(1L, "자바")
+
+        expect:
+        !engine.search("자바").present
+
+        when:
+        engine.markReady()
+
+        then:
+        engine.search("자바").present
+        !engine.search("자").present
+        !engine.search(null).present
+    }
+
+    def "remove 하면 그 질문은 이전 본문의 바이그램으로 더 이상 찾을 수 없다"() {
+        given:
+        engine.index(1L, "apple pie")
+        engine.index(2L, "apple tart")
+        engine.markReady()
+
+        when:
+        engine.remove(1L, "apple pie")
+        engine.index(1L, "cherry pie")
+
+        then:
+        ids(engine.search("apple").get()) == [2L]
+        ids(engine.search("cherry").get()) == [1L]
+    }
+
+    private static List<Long> ids(Roaring64Bitmap bitmap) {
+        bitmap.toArray() as List<Long>
+    }
+}
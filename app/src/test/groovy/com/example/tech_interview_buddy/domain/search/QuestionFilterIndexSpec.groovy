@@ -0,0 +1,70 @@
+package com.example.tech_interview_buddy.domain.search
+
+import com.example.tech_interview_buddy.common.domain.Category
+import spock.lang.Specification
+
+class QuestionFilterIndexSpec extends Specification {
+
+    def tagDictionary = new TagDictionary()
+    def index = new QuestionFilterIndex(tagDictionary)
+
+    def setup() {
+        tagDictionary.register(1L, "Java")
+        tagDictionary.register(2L, "Spring")
+        tagDictionary.register(3L, "JPA")
+        tagDictionary.markReady()
+
+        index.addQuestion(10L, Category.PROGRAMMING)
+        index.addQuestion(11L, Category.FRAMEWORK)
+        index.addQuestion(12L, Category.FRAMEWORK)
+        index.addQuestion(13L, Category.DATABASE)
+        index.addTags(10L, [1L])
+        index.addTags(11L, [1L, 2L])
+        index.addTags(12L, [2L, 3L])
+        index.addTags(13L, [3L])
+        index.markReady()
+    }
+
+    def "태그 ANY 는 합집합, ALL 은 교집합이다"() {
+        expect:
+        index.match(null, tags, matchAll).get().toArray() as List == expected
+
+        where:
+        tags                    | matchAll | expected
+        ["Java", "Spring"]      | false    | [10L, 11L, 12L]
+        ["Java", "Spring"]      | true     | [11L]
+        ["spring", "JPA"]       | true     | [12L]
+        ["Java", "없는태그"]      | false    | [10L, 11L]
+        ["Java", "없는태그"]      | true     | []
+        ["없는태그"]              | false    | []
+    }
+
+    def "카테고리 조건은 태그 결과와 교집합한다"() {
+        expect:
+        index.match(Category.FRAMEWORK, tags, false).get().toArray() as List == expected
+
+        where:
+        tags      | expected
+        []        | [11L, 12L]
+        ["Java"]  | [11L]
+        ["JPA"]   | [12L]
+    }
+
+    def "조건이 없거나 준비 전이면 empty 로 DB 조회에 맡긴다"() {
+        expect:
+        !index.match(null, [], true).present
+        !new QuestionFilterIndex(tagDictionary).match(Category.FRAMEWORK, ["Java"], false).present
+    }
+
+    def "카테고리 변경/태그 제거/질문 삭제가 다음 조회에 반영된다"() {
+        when:
+        index.changeCategory(11L, Category.FRAMEWORK, Category.PROGRAMMING)
+        index.removeTags(12L, [2L])
+        index.removeQuestion(10L)
+
+        then:
+        index.match(Category.PROGRAMMING, [], false).get().toArray() as List == [11L]
+        index.match(null, ["Spring"], false).get().toArray() as List == [11L]
+        index.match(null, ["Java"], false).get().toArray() as List == [11L]
+    }
+}
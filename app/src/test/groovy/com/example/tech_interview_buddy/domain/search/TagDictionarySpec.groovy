@@ -0,0 +1,73 @@
+package com.example.tech_interview_buddy.domain.search
+
+import spock.lang.Specification
+
+class TagDictionarySpec extends Specification {
+
+    def dictionary = new TagDictionary()
+
+    def "이름은 대소문자 구분 없이 찾는다"() {
+        given:
+        dictionary.register(1L, "Spring")
+
+        expect:
+        dictionary.findId(name) == Optional.ofNullable(expected)
+
+        where:
+        name     | expected
+        "Spring" | 1L
+        "spring" | 1L
+        "SPRING" | 1L
+        "Spring " | null
+        null     | null
+    }
+
+    def "이름 변경 후 이전 이름은 사라지고 새 이름으로 찾는다"() {
+        given:
+        dictionary.register(1L, "Spring")
+
+        when:
+        dictionary.rename(1L, "Spring Boot")
+
+        then:
+        !dictionary.findId("spring").present
+        dictionary.findId("SPRING BOOT") == Optional.of(1L)
+        dictionary.findName(1L) == Optional.of("Spring Boot")
+    }
+
+    def "대소문자만 바꾸는 이름 변경도 사전 키를 잃지 않는다"() {
+        given:
+        dictionary.register(1L, "java")
+
+        when:
+        dictionary.rename(1L, "Java")
+
+        then:
+        dictionary.findId("java") == Optional.of(1L)
+        dictionary.findName(1L) == Optional.of("Java")
+    }
+
+    def "이름 변경 이벤트가 뒤바뀌어 와도 이전 이름을 새로 가져간 태그의 키는 지우지 않는다"() {
+        given: "1번 Kotlin → Coroutine, 2번 Ktx → kotlin 순으로 커밋됐지만 2번 이벤트가 먼저 반영됨"
+        dictionary.register(1L, "Kotlin")
+        dictionary.register(2L, "Ktx")
+        dictionary.rename(2L, "kotlin")
+
+        when:
+        dictionary.rename(1L, "Coroutine")
+
+        then:
+        dictionary.findId("KOTLIN") == Optional.of(2L)
+        dictionary.findId("coroutine") == Optional.of(1L)
+        !dictionary.findId("ktx").present
+    }
+
+    def "findIds 는 사전에 있는 이름의 ID 를 중복 없이 입력 순서대로 돌려준다"() {
+        given:
+        dictionary.register(1L, "Java")
+        dictionary.register(2L, "JPA")
+
+        expect:
+        dictionary.findIds(["jpa", "없는태그", "JAVA", "Jpa", null]) == [2L, 1L]
+    }
+}
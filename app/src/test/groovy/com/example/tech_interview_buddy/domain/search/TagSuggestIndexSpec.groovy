@@ -0,0 +1,81 @@
+package com.example.tech_interview_buddy.domain.search
+
+import spock.lang.Specification
+
+class TagSuggestIndexSpec extends Specification {
+
+    def index = new TagSuggestIndex(3)
+
+    def setup() {
+        index.addTag(1L, "Java", 50)
+        index.addTag(2L, "JavaScript", 80)
+        index.addTag(3L, "JPA", 30)
+        index.addTag(4L, "Jvm", 10)
+        index.addTag(5L, "스프링", 40)
+        index.addTag(6L, "스프링부트", 5)
+        index.markReady()
+    }
+
+    def "접두사로 시작하는 태그를 질문 수 순으로 상위 k 개까지 돌려준다"() {
+        expect:
+        names(index.suggest(prefix, limit)) == expected
+
+        where:
+        prefix | limit | expected
+        "j"    | 10    | ["JavaScript", "Java", "JPA"]
+        "JAVA" | 10    | ["JavaScript", "Java"]
+        "j"    | 1     | ["JavaScript"]
+        ""     | 10    | ["JavaScript", "Java", "스프링"]
+        "스프"  | 10    | ["스프링", "스프링부트"]
+        "zzz"  | 10    | []
+    }
+
+    def "질문 수가 바뀌면 경로의 상위 k 가 다시 계산된다"() {
+        when:
+        index.updateQuestionCount(4L, 100)
+        index.updateQuestionCount(2L, 1)
+
+        then:
+        names(index.suggest("j", 10)) == ["Jvm", "Java", "JPA"]
+        index.suggest("jv", 10)*.questionCount == [100L]
+    }
+
+    def "이름을 바꾸면 이전 경로에서 빠지고 새 경로에 들어간다"() {
+        when:
+        index.renameTag(2L, "TypeScript")
+
+        then:
+        names(index.suggest("j", 10)) == ["Java", "JPA", "Jvm"]
+        names(index.suggest("ty", 10)) == ["TypeScript"]
+        names(index.suggest("", 10)) == ["TypeScript", "Java", "스프링"]
+    }
+
+    def "대소문자만 바꾼 이름 변경은 같은 경로에서 표시 이름만 바뀐다"() {
+        when:
+        index.renameTag(3L, "jpa")
+
+        then:
+        names(index.suggest("J", 10)) == ["JavaScript", "Java", "jpa"]
+    }
+
+    def "이름이 바뀐 뒤의 질문 수 변경도 새 경로에 반영된다"() {
+        given:
+        index.renameTag(4L, "Kotlin")
+
+        when:
+        index.updateQuestionCount(4L, 90)
+
+        then:
+        names(index.suggest("", 10)) == ["Kotlin", "JavaScript", "Java"]
+        names(index.suggest("jv", 10)) == []
+    }
+
+    def "준비 전이면 빈 목록이다"() {
+        expect:
+        new TagSuggestIndex(3).suggest("j", 10).isEmpty()
+    }
+
+    private static List<String> names(List<TagSuggestion> suggestions) {
+        suggestions*.name
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.tech_interview_buddy.domain.service
+
+import com.example.tech_interview_buddy.app.config.GlobalExceptionHandler
+import com.example.tech_interview_buddy.app.config.IdSequenceInitializer
+import com.example.tech_interview_buddy.app.config.JpaConfig
+import com.example.tech_interview_buddy.common.domain.Category
+import com.example.tech_interview_buddy.domain.search.NGramQuestionSearchEngine
+import com.example.tech_interview_buddy.domain.search.QuestionCounter
+import com.example.tech_interview_buddy.domain.search.QuestionFilterIndex
+import com.example.tech_interview_buddy.domain.search.QuestionIndexEventListener
+import com.example.tech_interview_buddy.domain.search.SolvedQuestionCache
+import com.example.tech_interview_buddy.domain.search.TagDictionary
+import com.example.tech_interview_buddy.domain.search.TagSuggestIndex
+import com.example.tech_interview_buddy.domain.spec.QuestionCursor
+import com.example.tech_interview_buddy.domain.spec.QuestionSearchSpec
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.SpringBootConfiguration
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.context.annotation.Import
+import org.springframework.dao.InvalidDataAccessApiUsageException
+import org.springframework.test.context.ContextConfiguration
+import org.springframework.test.context.TestPropertySource
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import spock.lang.Shared
+import spock.lang.Specification
+
+/**
+ * H2(MySQL 모드)에서 커서(키셋) 페이지네이션이 같은 정렬 키가 페이지 경계에 걸쳐도
+ * 빠지거나 겹치는 행 없이 OFFSET 페이지와 같은 순서를 돌려주는지 확인한다.
+ * 검색 조회는 작업별 트랜잭션에서 커밋된 데이터를 읽으므로 테스트 트랜잭션은 열지 않는다.
+ */
+@DataJpaTest
+@ContextConfiguration(classes = Config)  // Spock 2.3은 @BootstrapWith만으로는 Spring 스펙으로 인식하지 않는다
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(properties = [
+    "spring.datasource.url=jdbc:h2:mem:keyset;MODE=MySQL;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE",
+    "spring.datasource.driver-class-name=org.h2.Driver",
+    "spring.test.database.replace=none",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false"
+])
+class QuestionKeysetPagingSpec extends Specification {
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @Import([JpaConfig, IdSequenceInitializer, QuestionService, TagService, AnswerService, QuestionCountService,
+        SearchLookupExecutor, NGramQuestionSearchEngine, QuestionCounter, QuestionFilterIndex, SolvedQuestionCache,
+        TagDictionary, TagSuggestIndex, QuestionIndexEventListener])
+    static class Config {}
+
+    @Autowired
+    QuestionService questionService
+
+    @Shared
+    boolean seeded = false
+
+    def setup() {
+        if (seeded) {
+            return
+        }
+        // 카테고리 정렬 시 DATABASE 3건, FRAMEWORK 2건이 같은 키로 묶이도록 섞어서 넣는다
+        [
+            ["q1", Category.DATABASE],
+            ["q2", Category.FRAMEWORK],
+            ["q3", Category.DATABASE],
+            ["q4", Category.ALGORITHM],
+            ["q5", Category.FRAMEWORK],
+            ["q6", Category.DATABASE],
+            ["q7", Category.PROGRAMMING]
+        ].each { content, category -> questionService.createQuestion(content, category, []) }
+        seeded = true
+    }
+
+    def "커서로 끝까지 넘기면 같은 정렬 키가 페이지 경계에 걸쳐도 OFFSET 전체 조회와 순서가 같다"() {
+        given:
+        def expected = questionService.searchQuestions(spec(sortField, direction, 0, 100, null), null).content*.content
+
+        when:
+        def paged = []
+        String cursor = null
+        int pages = 0
+        while (true) {
+            def page = questionService.searchQuestions(spec(sortField, direction, 0, 2, cursor), null)
+            paged.addAll(page.content*.content)
+            pages++
+            if (!page.hasNext()) {
+                break
+            }
+            cursor = QuestionCursor.of(sortField, direction, page.content.last()).encode()
+        }
+
+        then:
+        expected.size() == 7
+        paged == expected
+        pages == 4
+
+        where:
+        sortField  | direction
+        "category" | "asc"
+        "category" | "desc"
+        "isSolved" | "asc"
+        "id"       | "desc"
+    }
+
+    def "빈 커서는 첫 페이지 OFFSET 조회로 처리되어 전체 개수를 돌려준다"() {
+        when:
+        def page = questionService.searchQuestions(spec("id", "asc", 0, 2, "  "), null)
+
+        then:
+        page.totalElements == 7
+        page.content*.content == ["q1", "q2"]
+    }
+
+    def "다른 정렬로 발급된 커서는 거부하고 400 응답으로 바뀐다"() {
+        given:
+        def first = questionService.searchQuestions(spec("category", "asc", 0, 2, null), null)
+        def cursor = QuestionCursor.of("category", "asc", first.content.last()).encode()
+
+        when:
+        questionService.searchQuestions(spec("category", "desc", 0, 2, cursor), null)
+
+        then: "리포지토리 예외 변환으로 감싸져 오지만 원인은 IllegalArgumentException"
+        def e = thrown(InvalidDataAccessApiUsageException)
+        e.cause instanceof IllegalArgumentException
+        new GlobalExceptionHandler().handleInvalidDataAccessApiUsage(e) == "Cursor does not match the requested sort"
+    }
+
+    private static QuestionSearchSpec spec(String sortField, String direction, int page, int size, String cursor) {
+        QuestionSearchSpec.builder()
+            .sortField(sortField)
+            .sortDirection(direction)
+            .page(page)
+            .size(size)
+            .cursor(cursor)
+            .build()
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.tech_interview_buddy.domain.spec
+
+import com.example.tech_interview_buddy.common.domain.Category
+import com.example.tech_interview_buddy.domain.service.QuestionSearchResult
+import spock.lang.Specification
+
+import java.nio.charset.StandardCharsets
+import java.time.LocalDateTime
+
+class QuestionCursorSpec extends Specification {
+
+    def "encode 한 커서를 decode 하면 정렬 조건과 마지막 키가 그대로다"() {
+        given:
+        def last = QuestionSearchResult.builder()
+            .id(42L)
+            .content("자바\n가비지 컬렉션")
+            .category(Category.DATABASE)
+            .questionSolved(true)
+            .createdAt(LocalDateTime.of(2024, 1, 2, 3, 4, 5))
+            .build()
+
+        when:
+        def decoded = QuestionCursor.decode(QuestionCursor.of(sortField, "desc", last).encode())
+
+        then:
+        decoded.sortField == sortField
+        !decoded.ascending
+        decoded.lastId == 42L
+        decoded.lastKey == lastKey
+
+        where:
+        sortField   | lastKey
+        "id"        | null
+        "content"   | "자바\n가비지 컬렉션"  // 구분자가 들어 있어도 값은 마지막에 있으므로 그대로 복원
+        "category"  | Category.DATABASE
+        "isSolved"  | true
+        "createdAt" | LocalDateTime.of(2024, 1, 2, 3, 4, 5)
+        "updatedAt" | null
+    }
+
+    def "알 수 없는 정렬 필드는 id 커서로 만든다"() {
+        when:
+        def cursor = QuestionCursor.of("password", "asc", QuestionSearchResult.builder().id(7L).build())
+
+        then:
+        cursor.sortField == "id"
+        cursor.matches("id", true)
+        !cursor.matches("content", true)
+        !cursor.matches("id", false)
+    }
+
+    def "내용 정렬 키는 앞 CONTENT_KEY_LENGTH 글자까지만 담는다"() {
+        given:
+        def content = "가" * (QuestionCursor.CONTENT_KEY_LENGTH + 10)
+
+        when:
+        def cursor = QuestionCursor.of("content", "asc", QuestionSearchResult.builder().id(1L).content(content).build())
+
+        then:
+        cursor.lastValue.length() == QuestionCursor.CONTENT_KEY_LENGTH
+    }
+
+    def "형식이 맞지 않는 토큰은 IllegalArgumentException 으로 거른다"() {
+        when:
+        QuestionCursor.decode(token)
+
+        then:
+        thrown(IllegalArgumentException)
+
+        where:
+        token << [
+            "%%%",
+            encode("id\nasc"),
+            encode("password\nasc\n5"),
+            encode("id\nsideways\n5"),
+            encode("id\nasc\nabc"),
+            encode("id\nasc\n5\nextra"),
+            encode("category\ndesc\n5\nNOPE"),
+            encode("isSolved\nasc\n5\nyes"),
+            encode("createdAt\nasc\n5\nnot-a-date"),
+            encode("content\nasc\n5\n" + "a" * (QuestionCursor.CONTENT_KEY_LENGTH + 1))
+        ]
+    }
+
+    def "빈 커서는 검색 스펙을 만들 때 커서 없음으로 바뀐다"() {
+        expect:
+        QuestionSearchSpec.builder().cursor(cursor).build().cursor == expected
+
+        where:
+        cursor  | expected
+        null    | null
+        ""      | null
+        "   "   | null
+        "abc"   | "abc"
+    }
+
+    private static String encode(String raw) {
+        Base64.urlEncoder.withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8))
+    }
+}
@@ -1,41 +1,138 @@
 package com.example.tech_interview_buddy.recommend.controller;
 
+import com.example.tech_interview_buddy.recommend.dto.request.RecommendBatchRequest;
 import com.example.tech_interview_buddy.recommend.dto.request.RecommendRequest;
+import com.example.tech_interview_buddy.recommend.dto.request.RelatedQuestionRequest;
+import com.example.tech_interview_buddy.recommend.dto.response.RecommendBatchResponse;
 import com.example.tech_interview_buddy.recommend.dto.response.RecommendResponse;
 import com.example.tech_interview_buddy.recommend.dto.response.RecommendedQuestion;
+import com.example.tech_interview_buddy.recommend.dto.response.SnapshotReloadResponse;
+import com.example.tech_interview_buddy.recommend.engine.ContentSimilarityEngine;
+import com.example.tech_interview_buddy.recommend.engine.Deadline;
+import com.example.tech_interview_buddy.recommend.engine.MappedRecommendEngine;
+import com.example.tech_interview_buddy.recommend.engine.MappedRecommendIndex;
+import com.example.tech_interview_buddy.recommend.engine.RecommendSnapshot;
+import com.example.tech_interview_buddy.recommend.engine.RecommendSnapshotLoader;
+import com.example.tech_interview_buddy.recommend.service.RecommendService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/v1")
+@RequiredArgsConstructor
 public class RecommendController {
 
+	private static final int MAX_RELATED_LIMIT = 50;
+	private static final int MAX_BATCH_SIZE = 256;
+
+	/**
+	 * 호출자에게 남은 시간(ms, 상대값). 없으면 기한 없이 처리한다.
+	 */
+	public static final String DEADLINE_HEADER = "X-Deadline-Remaining-Ms";
+
+	private final ContentSimilarityEngine contentSimilarityEngine;
+	private final MappedRecommendEngine mappedRecommendEngine;
+	private final RecommendSnapshotLoader recommendSnapshotLoader;
+	private final RecommendService recommendService;
+
+	@Value("${recommend.top-k:3}")
+	private int topK;
+
 	@PostMapping("/recommend")
-	public RecommendResponse recommend(@RequestBody RecommendRequest request) {
-		// 더미 데이터: 추천 관련 질문들
-		List<RecommendedQuestion> recommendedQuestions = Arrays.asList(
-			RecommendedQuestion.builder()
-				.id(1L)
-				.content("Spring Boot에서 외부 API를 호출하는 방법은?")
-				.category(request.getCategory() != null ? request.getCategory() : "PROGRAMMING")
-				.build(),
-			RecommendedQuestion.builder()
-				.id(2L)
-				.content("RESTful API 설계 원칙에 대해 설명해주세요.")
-				.category(request.getCategory() != null ? request.getCategory() : "PROGRAMMING")
-				.build(),
-			RecommendedQuestion.builder()
-				.id(3L)
-				.content("마이크로서비스 아키텍처의 장단점은?")
-				.category(request.getCategory() != null ? request.getCategory() : "SYSTEM_DESIGN")
-				.build()
-		);
-		
+	public RecommendResponse recommend(@RequestBody RecommendRequest request,
+									   @RequestHeader(value = DEADLINE_HEADER, required = false) Long remainingMillis) {
+		return recommendFor(request, deadlineOf(remainingMillis));
+	}
+
+	/**
+	 * 여러 추천 요청을 한 번에 처리합니다 (응답은 요청 순서대로)
+	 * 앱의 클라이언트가 짧은 시간 창 안의 호출을 모아 보내므로 요청당 왕복/연결 비용이 줄어든다.
+	 * 처리 중 기한이 지나면 남은 요청은 계산하지 않고 빈 추천으로 채운다.
+	 */
+	@PostMapping("/recommend/batch")
+	public RecommendBatchResponse recommendBatch(@RequestBody RecommendBatchRequest batchRequest,
+												 @RequestHeader(value = DEADLINE_HEADER, required = false) Long remainingMillis) {
+		Deadline deadline = deadlineOf(remainingMillis);
+		List<RecommendRequest> requests = batchRequest.getRequests() != null ? batchRequest.getRequests() : List.of();
+		if (requests.size() > MAX_BATCH_SIZE) {
+			throw new IllegalArgumentException("배치 요청은 최대 " + MAX_BATCH_SIZE + "건까지 가능합니다.");
+		}
+		List<RecommendResponse> responses = new ArrayList<>(requests.size());
+		for (RecommendRequest request : requests) {
+			responses.add(request != null ? recommendFor(request, deadline) : RecommendResponse.builder().recommendedQuestions(List.of()).build());
+		}
+		return RecommendBatchResponse.builder()
+			.responses(responses)
+			.build();
+	}
+
+	private RecommendResponse recommendFor(RecommendRequest request, Deadline deadline) {
 		return RecommendResponse.builder()
-			.recommendedQuestions(recommendedQuestions)
+			.recommendedQuestions(recommendService.recommend(
+				request.getCategory(), request.getTags(), request.getUserId(), request.getSolvedQuestionIds(), deadline))
+			.build();
+	}
+
+	/**
+	 * 도착했을 때 이미 기한이 지난 요청은 바로 거절한다 (호출자는 이미 빈 추천으로 대체했다)
+	 */
+	private static Deadline deadlineOf(Long remainingMillis) {
+		if (remainingMillis != null && remainingMillis <= 0) {
+			throw new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, "Deadline already exceeded");
+		}
+		return Deadline.after(remainingMillis);
+	}
+
+	/**
+	 * 본문 TF-IDF 유사도로 관련 질문을 추천합니다 (질문 ID 또는 자유 텍스트)
+	 */
+	@PostMapping("/recommend/related")
+	public RecommendResponse related(@RequestBody RelatedQuestionRequest request) {
+		int limit = request.getLimit() != null && request.getLimit() > 0
+			? Math.min(request.getLimit(), MAX_RELATED_LIMIT)
+			: topK;
+		List<RecommendedQuestion> related;
+		if (request.getQuestionId() != null && mappedRecommendEngine.isActive()) {
+			related = mappedRecommendEngine.relatedTo(request.getQuestionId(), limit);
+		} else if (request.getQuestionId() != null) {
+			related = contentSimilarityEngine.relatedTo(request.getQuestionId(), limit);
+		} else if (request.getText() != null && !request.getText().isBlank()) {
+			related = contentSimilarityEngine.similarTo(request.getText(), limit);
+		} else {
+			related = List.of();
+		}
+		return RecommendResponse.builder()
+			.recommendedQuestions(related)
 			.build();
 	}
-}
 
+	/**
+	 * 스냅샷 파일을 다시 읽어 교체합니다 (적재 중에도 기존 스냅샷으로 계속 응답)
+	 */
+	@PostMapping("/recommend/snapshot/reload")
+	public SnapshotReloadResponse reloadSnapshot() {
+		RecommendSnapshot snapshot = recommendSnapshotLoader.reload();
+		return SnapshotReloadResponse.builder()
+			.questionCount(snapshot.questionCount())
+			.tagCount(snapshot.tagCount())
+			.build();
+	}
+
+	/**
+	 * 추천 인덱스 파일을 다시 매핑해 교체합니다 (재시작 없이 새 파일로 전환)
+	 */
+	@PostMapping("/recommend/index/reload")
+	public SnapshotReloadResponse reloadIndex() {
+		MappedRecommendIndex index = recommendSnapshotLoader.reloadIndex();
+		return SnapshotReloadResponse.builder()
+			.questionCount(index.questionCount())
+			.tagCount(index.tagCount())
+			.build();
+	}
+}
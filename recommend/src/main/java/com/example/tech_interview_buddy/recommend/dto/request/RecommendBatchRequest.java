@@ -0,0 +1,16 @@
+package com.example.tech_interview_buddy.recommend.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecommendBatchRequest {
+	private List<RecommendRequest> requests;
+}
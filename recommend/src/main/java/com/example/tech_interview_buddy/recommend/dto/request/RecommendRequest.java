@@ -10,5 +10,12 @@ import java.util.List;
 public class RecommendRequest {
 	private String category;
 	private List<String> tags;
+	/**
+	 * 개인화용 사용자 ID (선택, 프로필 캐시 키)
+	 */
+	private Long userId;
+	/**
+	 * 사용자가 푼 질문 ID (오름차순 delta + varint + URL-safe Base64, 선택)
+	 */
+	private String solvedQuestionIds;
 }
-
@@ -0,0 +1,16 @@
+package com.example.tech_interview_buddy.recommend.dto.request;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 본문 유사도 기반 관련 질문 요청
+ * questionId가 있으면 해당 질문의 본문으로, 없으면 text로 검색한다.
+ */
+@Getter
+@Builder
+public class RelatedQuestionRequest {
+	private Long questionId;
+	private String text;
+	private Integer limit;
+}
@@ -0,0 +1,15 @@
+package com.example.tech_interview_buddy.recommend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 배치 추천 응답 (요청 순서와 같은 순서)
+ */
+@Getter
+@Builder
+public class RecommendBatchResponse {
+	private List<RecommendResponse> responses;
+}
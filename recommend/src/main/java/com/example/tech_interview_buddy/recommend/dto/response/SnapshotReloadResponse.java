@@ -0,0 +1,11 @@
+package com.example.tech_interview_buddy.recommend.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SnapshotReloadResponse {
+	private int questionCount;
+	private int tagCount;
+}
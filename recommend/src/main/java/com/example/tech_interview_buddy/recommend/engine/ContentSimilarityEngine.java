@@ -0,0 +1,58 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import com.example.tech_interview_buddy.recommend.dto.response.RecommendedQuestion;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 본문 TF-IDF 코사인 유사도 기반 "관련 질문" 엔진
+ * 인덱스는 스냅샷과 함께 만들어져 AtomicReference로 통째로 교체된다.
+ */
+@Component
+public class ContentSimilarityEngine {
+
+	private final AtomicReference<TfIdfIndex> index = new AtomicReference<>(TfIdfIndex.build(RecommendSnapshot.empty()));
+
+	public void swap(TfIdfIndex next) {
+		index.set(next);
+	}
+
+	/**
+	 * 질문 본문과 비슷한 질문 (자기 자신 제외)
+	 */
+	public List<RecommendedQuestion> relatedTo(long questionId, int limit) {
+		TfIdfIndex current = index.get();
+		int doc = Arrays.binarySearch(current.snapshot.questionIds, questionId);
+		if (doc < 0) {
+			return List.of();
+		}
+		TfIdfIndex.Vector vector = current.documentVector(doc);
+		return toResponse(current, current.search(vector.terms(), vector.weights(), doc, limit));
+	}
+
+	/**
+	 * 자유 텍스트와 비슷한 질문
+	 */
+	public List<RecommendedQuestion> similarTo(String text, int limit) {
+		TfIdfIndex current = index.get();
+		TfIdfIndex.Vector vector = current.vectorize(text);
+		return toResponse(current, current.search(vector.terms(), vector.weights(), -1, limit));
+	}
+
+	private List<RecommendedQuestion> toResponse(TfIdfIndex current, int[] docs) {
+		RecommendSnapshot snapshot = current.snapshot;
+		List<RecommendedQuestion> result = new ArrayList<>(docs.length);
+		for (int doc : docs) {
+			result.add(RecommendedQuestion.builder()
+				.id(snapshot.questionIds[doc])
+				.content(snapshot.contents[doc])
+				.category(snapshot.categoryNames[snapshot.questionCategories[doc]])
+				.build());
+		}
+		return result;
+	}
+}
@@ -0,0 +1,57 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 질문 본문을 TF-IDF 용어로 나눈다.
+ * 영문/숫자 단어는 단어 그대로, 한글처럼 띄어쓰기만으로 형태소가 갈리지 않는 단어는 문자 bigram으로 쪼갠다.
+ * (조사가 붙어도 "트랜잭션은"/"트랜잭션을"이 같은 bigram을 공유한다)
+ */
+final class ContentTokenizer {
+
+	private ContentTokenizer() {
+	}
+
+	static List<String> tokenize(String text) {
+		List<String> terms = new ArrayList<>();
+		if (text == null) {
+			return terms;
+		}
+		String normalized = text.toLowerCase(Locale.ROOT);
+		int start = -1;
+		for (int i = 0; i <= normalized.length(); i++) {
+			boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+			if (wordChar && start < 0) {
+				start = i;
+			} else if (!wordChar && start >= 0) {
+				addWord(normalized.substring(start, i), terms);
+				start = -1;
+			}
+		}
+		return terms;
+	}
+
+	private static void addWord(String word, List<String> terms) {
+		if (word.length() < 2) {
+			return;
+		}
+		if (isAscii(word)) {
+			terms.add(word);
+			return;
+		}
+		for (int i = 0; i + 1 < word.length(); i++) {
+			terms.add(word.substring(i, i + 2));
+		}
+	}
+
+	private static boolean isAscii(String word) {
+		for (int i = 0; i < word.length(); i++) {
+			if (word.charAt(i) > 0x7F) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
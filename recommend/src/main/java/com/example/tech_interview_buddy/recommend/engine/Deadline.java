@@ -0,0 +1,31 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+/**
+ * 호출자가 응답을 기다려 주는 시점
+ * 호출자가 남은 시간(상대값)을 보내면 이 프로세스의 단조 시계 기준으로 바꿔 두므로 서버 간 시계 차이의 영향을 받지 않는다.
+ * 엔진은 작업 중간중간 만료를 확인해, 만료되면 그때까지 계산한 결과(best-so-far)로 끝낸다.
+ */
+public final class Deadline {
+
+	public static final Deadline NONE = new Deadline(Long.MAX_VALUE);
+
+	private final long deadlineNanos;
+
+	private Deadline(long deadlineNanos) {
+		this.deadlineNanos = deadlineNanos;
+	}
+
+	/**
+	 * @param remainingMillis 남은 시간 (null이면 기한 없음)
+	 */
+	public static Deadline after(Long remainingMillis) {
+		if (remainingMillis == null) {
+			return NONE;
+		}
+		return new Deadline(System.nanoTime() + remainingMillis * 1_000_000L);
+	}
+
+	public boolean isExpired() {
+		return this != NONE && System.nanoTime() - deadlineNanos >= 0;
+	}
+}
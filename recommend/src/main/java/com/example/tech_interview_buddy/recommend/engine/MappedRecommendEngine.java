@@ -0,0 +1,62 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import com.example.tech_interview_buddy.recommend.dto.response.RecommendedQuestion;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * mmap 추천 인덱스로 응답하는 엔진
+ * 인덱스 파일이 적재되어 있으면 힙 스냅샷 엔진 대신 이 엔진이 응답한다.
+ * 새 파일은 AtomicReference로 통째로 교체되며, 이전 매핑은 참조가 사라지면 GC 때 해제된다.
+ */
+@Component
+public class MappedRecommendEngine {
+
+	private final AtomicReference<MappedRecommendIndex> index = new AtomicReference<>();
+
+	public boolean isActive() {
+		return index.get() != null;
+	}
+
+	public MappedRecommendIndex getIndex() {
+		return index.get();
+	}
+
+	public void swap(MappedRecommendIndex next) {
+		index.set(next);
+	}
+
+	public List<RecommendedQuestion> recommend(String category, Collection<String> tags, int limit,
+											   UserProfile profile, Deadline deadline) {
+		MappedRecommendIndex current = index.get();
+		if (current == null) {
+			return List.of();
+		}
+		return toResponse(current, current.recommend(category, tags, limit, profile, deadline));
+	}
+
+	public List<RecommendedQuestion> relatedTo(long questionId, int limit) {
+		MappedRecommendIndex current = index.get();
+		int question = current != null ? current.findQuestion(questionId) : -1;
+		if (question < 0) {
+			return List.of();
+		}
+		return toResponse(current, current.related(question, limit));
+	}
+
+	private List<RecommendedQuestion> toResponse(MappedRecommendIndex current, int[] questions) {
+		List<RecommendedQuestion> result = new ArrayList<>(questions.length);
+		for (int question : questions) {
+			result.add(RecommendedQuestion.builder()
+				.id(current.questionId(question))
+				.content(current.content(question))
+				.category(current.categoryName(question))
+				.build());
+		}
+		return result;
+	}
+}
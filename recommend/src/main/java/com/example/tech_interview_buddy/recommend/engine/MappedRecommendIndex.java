@@ -0,0 +1,323 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 오프라인에서 미리 계산해 둔 추천 인덱스 파일을 읽기 전용 mmap으로 여는 뷰
+ * 파일 내용을 힙으로 역직렬화하지 않고, 요청 시 필요한 칸만 절대 위치로 읽는다 (응답에 나갈 문자열만 디코딩).
+ * 페이지 캐시는 OS가 관리하므로 힙 사용량과 기동 시간이 카탈로그 크기와 무관하다.
+ *
+ * 파일 구조 (big-endian, {@link RecommendIndexWriter}가 만든다)
+ * <pre>
+ * header   : magic, version, questionCount, tagCount, categoryCount, tagListSize, relatedListSize, 섹션 오프셋[SECTION_COUNT]
+ * 질문     : id long[q] (오름차순), category int[q], 태그 offset int[q+1] + int[], 본문 offset int[q+1] + UTF-8 bytes
+ * 카테고리 : 이름 offset int[c+1] + UTF-8 bytes (바이트 오름차순), 최신 질문 offset int[c+1] + int[]
+ * 태그     : 이름 offset int[t+1] + UTF-8 bytes (바이트 오름차순), 추천 목록 offset int[t+1] + (질문 int[], 점수 float[])
+ * 관련 질문: offset int[q+1] + 질문 int[] (본문 TF-IDF 유사도 내림차순)
+ * </pre>
+ */
+public final class MappedRecommendIndex {
+
+	static final int MAGIC = 0x52434958; // "RCIX"
+	static final int VERSION = 2;
+
+	static final int QUESTION_IDS = 0;
+	static final int QUESTION_CATEGORIES = 1;
+	static final int CONTENT_OFFSETS = 2;
+	static final int CONTENT_BYTES = 3;
+	static final int CATEGORY_NAME_OFFSETS = 4;
+	static final int CATEGORY_NAME_BYTES = 5;
+	static final int CATEGORY_LATEST_OFFSETS = 6;
+	static final int CATEGORY_LATEST_QUESTIONS = 7;
+	static final int TAG_NAME_OFFSETS = 8;
+	static final int TAG_NAME_BYTES = 9;
+	static final int TAG_LIST_OFFSETS = 10;
+	static final int TAG_LIST_QUESTIONS = 11;
+	static final int TAG_LIST_SCORES = 12;
+	static final int RELATED_OFFSETS = 13;
+	static final int RELATED_QUESTIONS = 14;
+	static final int QUESTION_TAG_OFFSETS = 15;
+	static final int QUESTION_TAGS = 16;
+	static final int SECTION_COUNT = 17;
+
+	static final int HEADER_INTS = 7;
+	static final int HEADER_SIZE = (HEADER_INTS + SECTION_COUNT) * Integer.BYTES;
+
+	private final Path path;
+	private final ByteBuffer buffer;
+	private final int questionCount;
+	private final int tagCount;
+	private final int categoryCount;
+	private final int[] sections;
+
+	private MappedRecommendIndex(Path path, ByteBuffer buffer, int questionCount, int tagCount, int categoryCount, int[] sections) {
+		this.path = path;
+		this.buffer = buffer;
+		this.questionCount = questionCount;
+		this.tagCount = tagCount;
+		this.categoryCount = categoryCount;
+		this.sections = sections;
+	}
+
+	/**
+	 * 인덱스 파일을 읽기 전용으로 매핑한다.
+	 * 채널을 닫아도 매핑은 유지되며, 파일이 rename으로 교체되어도 기존 매핑은 이전 파일(inode)을 계속 가리킨다.
+	 */
+	public static MappedRecommendIndex open(Path path) throws IOException {
+		MappedByteBuffer buffer;
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long size = channel.size();
+			if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+				throw new IllegalStateException("Invalid recommend index size: " + path + " (" + size + " bytes)");
+			}
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+		}
+
+		if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+			throw new IllegalStateException("Not a recommend index file (v" + VERSION + "): " + path);
+		}
+		int[] sections = new int[SECTION_COUNT];
+		for (int i = 0; i < SECTION_COUNT; i++) {
+			sections[i] = buffer.getInt((HEADER_INTS + i) * Integer.BYTES);
+		}
+		return new MappedRecommendIndex(path, buffer, buffer.getInt(8), buffer.getInt(12), buffer.getInt(16), sections);
+	}
+
+	public Path getPath() {
+		return path;
+	}
+
+	public int questionCount() {
+		return questionCount;
+	}
+
+	public int tagCount() {
+		return tagCount;
+	}
+
+	public long questionId(int question) {
+		return buffer.getLong(sections[QUESTION_IDS] + question * Long.BYTES);
+	}
+
+	public String content(int question) {
+		return string(CONTENT_OFFSETS, CONTENT_BYTES, question);
+	}
+
+	public String categoryName(int question) {
+		return string(CATEGORY_NAME_OFFSETS, CATEGORY_NAME_BYTES, intAt(QUESTION_CATEGORIES, question));
+	}
+
+	/**
+	 * @return 질문에 붙은 태그 이름 (없는 질문이면 빈 목록)
+	 */
+	public List<String> tagNamesOf(long questionId) {
+		int question = findQuestion(questionId);
+		if (question < 0) {
+			return List.of();
+		}
+		int from = intAt(QUESTION_TAG_OFFSETS, question);
+		int to = intAt(QUESTION_TAG_OFFSETS, question + 1);
+		List<String> names = new ArrayList<>(to - from);
+		for (int i = from; i < to; i++) {
+			names.add(string(TAG_NAME_OFFSETS, TAG_NAME_BYTES, intAt(QUESTION_TAGS, i)));
+		}
+		return names;
+	}
+
+	/**
+	 * @return 질문 인덱스, 없으면 -1
+	 */
+	public int findQuestion(long questionId) {
+		int low = 0;
+		int high = questionCount - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			long id = questionId(mid);
+			if (id < questionId) {
+				low = mid + 1;
+			} else if (id > questionId) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * 요청 태그별로 미리 계산된 추천 목록(태그 + 동시 출현 이웃 가중 합산 점수)을 합산해 상위 limit개를 고른다.
+	 * 목록은 태그당 상위 tagListSize개로 잘려 있으므로, 카테고리 필터로 모자라면 카테고리 최신 질문으로 채운다.
+	 * 프로필이 있으면 푼 질문을 빼고 요청 태그 목록의 점수에 태그 가중치를 곱한다 (이웃 태그 몫은 미리 합산되어 있어 요청 태그 기준).
+	 * 기한이 지나면 남은 태그 목록은 건너뛰고 그때까지 모은 후보로 고른다.
+	 *
+	 * @return 질문 인덱스 (점수 내림차순)
+	 */
+	public int[] recommend(String category, Collection<String> tags, int limit, UserProfile profile, Deadline deadline) {
+		if (limit <= 0 || questionCount == 0) {
+			return new int[0];
+		}
+		int categoryFilter = -1;
+		if (category != null && !category.isBlank()) {
+			categoryFilter = findName(CATEGORY_NAME_OFFSETS, CATEGORY_NAME_BYTES, categoryCount, category);
+			if (categoryFilter < 0) {
+				return new int[0];
+			}
+		}
+
+		// (질문 << 32 | 점수 비트)로 모아 정렬하면 같은 질문이 붙으므로 맵 없이 합산할 수 있다
+		int knownTags = 0;
+		long[] candidates = new long[0];
+		int candidateCount = 0;
+		if (tags != null) {
+			for (String tagName : tags) {
+				if (deadline.isExpired()) {
+					break;
+				}
+				String name = tagName != null ? tagName.trim() : null;
+				int tag = name != null ? findName(TAG_NAME_OFFSETS, TAG_NAME_BYTES, tagCount, name) : -1;
+				if (tag < 0) {
+					continue;
+				}
+				knownTags++;
+				float boost = UserProfile.boost(profile, name);
+				int from = intAt(TAG_LIST_OFFSETS, tag);
+				int to = intAt(TAG_LIST_OFFSETS, tag + 1);
+				if (candidateCount + (to - from) > candidates.length) {
+					candidates = Arrays.copyOf(candidates, candidateCount + (to - from));
+				}
+				for (int i = from; i < to; i++) {
+					int question = intAt(TAG_LIST_QUESTIONS, i);
+					if ((categoryFilter < 0 || intAt(QUESTION_CATEGORIES, question) == categoryFilter)
+						&& !UserProfile.isSolved(profile, questionId(question))) {
+						float score = buffer.getFloat(sections[TAG_LIST_SCORES] + i * Float.BYTES) * boost;
+						candidates[candidateCount++] = ((long) question << 32) | (Float.floatToRawIntBits(score) & 0xffffffffL);
+					}
+				}
+			}
+		}
+		if (knownTags == 0) {
+			return latest(categoryFilter, limit, new int[0], profile);
+		}
+
+		Arrays.sort(candidates, 0, candidateCount);
+		TopK top = new TopK(limit);
+		int i = 0;
+		while (i < candidateCount) {
+			int question = (int) (candidates[i] >>> 32);
+			float score = 0f;
+			for (; i < candidateCount && (int) (candidates[i] >>> 32) == question; i++) {
+				score += Float.intBitsToFloat((int) candidates[i]);
+			}
+			top.offer(question, score);
+		}
+		int[] best = top.drainDescending();
+		return best.length < limit ? latest(categoryFilter, limit, best, profile) : best;
+	}
+
+	/**
+	 * 본문이 비슷한 질문 (미리 계산된 목록, 자기 자신 제외)
+	 */
+	public int[] related(int question, int limit) {
+		int from = intAt(RELATED_OFFSETS, question);
+		int to = Math.min(intAt(RELATED_OFFSETS, question + 1), from + Math.max(0, limit));
+		int[] result = new int[to - from];
+		for (int i = from; i < to; i++) {
+			result[i - from] = intAt(RELATED_QUESTIONS, i);
+		}
+		return result;
+	}
+
+	/**
+	 * head 뒤에 카테고리(또는 전체)의 최신 질문을 limit개까지 이어 붙인다 (head와 중복, 푼 질문 제외)
+	 */
+	private int[] latest(int categoryFilter, int limit, int[] head, UserProfile profile) {
+		int[] result = Arrays.copyOf(head, limit);
+		int count = head.length;
+		if (categoryFilter >= 0) {
+			int from = intAt(CATEGORY_LATEST_OFFSETS, categoryFilter);
+			int to = intAt(CATEGORY_LATEST_OFFSETS, categoryFilter + 1);
+			for (int i = from; i < to && count < limit; i++) {
+				int question = intAt(CATEGORY_LATEST_QUESTIONS, i);
+				if (!UserProfile.isSolved(profile, questionId(question))) {
+					count = appendDistinct(result, count, head.length, question);
+				}
+			}
+		} else {
+			for (int question = questionCount - 1; question >= 0 && count < limit; question--) {
+				if (!UserProfile.isSolved(profile, questionId(question))) {
+					count = appendDistinct(result, count, head.length, question);
+				}
+			}
+		}
+		return Arrays.copyOf(result, count);
+	}
+
+	private static int appendDistinct(int[] result, int count, int headLength, int question) {
+		for (int i = 0; i < headLength; i++) {
+			if (result[i] == question) {
+				return count;
+			}
+		}
+		result[count] = question;
+		return count + 1;
+	}
+
+	private int intAt(int section, int index) {
+		return buffer.getInt(sections[section] + index * Integer.BYTES);
+	}
+
+	private String string(int offsetsSection, int bytesSection, int index) {
+		int from = intAt(offsetsSection, index);
+		int length = intAt(offsetsSection, index + 1) - from;
+		byte[] bytes = new byte[length];
+		buffer.get(sections[bytesSection] + from, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 바이트 오름차순으로 정렬된 이름 테이블에서 이분 탐색 (매핑된 바이트와 직접 비교)
+	 *
+	 * @return 이름의 위치, 없으면 -1
+	 */
+	private int findName(int offsetsSection, int bytesSection, int count, String name) {
+		byte[] key = name.getBytes(StandardCharsets.UTF_8);
+		int base = sections[bytesSection];
+		int low = 0;
+		int high = count - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int from = intAt(offsetsSection, mid);
+			int to = intAt(offsetsSection, mid + 1);
+			int compared = compare(base + from, to - from, key);
+			if (compared < 0) {
+				low = mid + 1;
+			} else if (compared > 0) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -1;
+	}
+
+	private int compare(int position, int length, byte[] key) {
+		int common = Math.min(length, key.length);
+		for (int i = 0; i < common; i++) {
+			int compared = Integer.compare(buffer.get(position + i) & 0xff, key[i] & 0xff);
+			if (compared != 0) {
+				return compared;
+			}
+		}
+		return Integer.compare(length, key.length);
+	}
+}
@@ -0,0 +1,40 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 질문 스냅샷(NDJSON)으로 mmap 추천 인덱스 파일을 만드는 오프라인 빌더
+ * ./gradlew :recommend:buildRecommendIndex -Pinput=questions.ndjson -Poutput=recommend.idx [-PtagListSize=64 -PrelatedListSize=20]
+ *
+ * 서빙 중인 파일 경로에 바로 써도 되며 (임시 파일 + rename), 이후 POST /api/v1/recommend/index/reload로 교체한다.
+ */
+@Slf4j
+public final class RecommendIndexBuilder {
+
+	static final int DEFAULT_TAG_LIST_SIZE = 64;
+	static final int DEFAULT_RELATED_LIST_SIZE = 20;
+
+	private RecommendIndexBuilder() {
+	}
+
+	public static void main(String[] args) throws IOException {
+		if (args.length < 2) {
+			throw new IllegalArgumentException("Usage: RecommendIndexBuilder <input.ndjson> <output.idx> [tagListSize] [relatedListSize]");
+		}
+		Path input = Path.of(args[0]);
+		Path output = Path.of(args[1]);
+		int tagListSize = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_TAG_LIST_SIZE;
+		int relatedListSize = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_RELATED_LIST_SIZE;
+
+		long startTime = System.currentTimeMillis();
+		RecommendSnapshot snapshot = RecommendSnapshot.build(RecommendSnapshotLoader.readQuestions(new ObjectMapper(), input));
+		TfIdfIndex contentIndex = TfIdfIndex.build(snapshot);
+		RecommendIndexWriter.write(snapshot, contentIndex, output, tagListSize, relatedListSize);
+		log.info("추천 인덱스 생성 완료: {} (질문 {}건, 태그 {}개), {}ms",
+			output, snapshot.questionCount(), snapshot.tagCount(), System.currentTimeMillis() - startTime);
+	}
+}
@@ -0,0 +1,253 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.stream.IntStream;
+
+/**
+ * 스냅샷에서 태그별/질문별 상위 k 추천 목록을 미리 계산해 {@link MappedRecommendIndex} 형식의 바이너리 파일로 쓴다.
+ * 같은 디렉터리의 임시 파일에 다 쓴 뒤 원자적으로 rename하므로,
+ * 기존 파일을 매핑해 서빙 중인 프로세스는 영향을 받지 않고 다음 재적재 때 새 파일을 연다.
+ */
+public final class RecommendIndexWriter {
+
+	private RecommendIndexWriter() {
+	}
+
+	/**
+	 * @param tagListSize 태그마다 저장할 추천 질문 수
+	 * @param relatedListSize 질문마다 저장할 관련 질문 수
+	 */
+	public static void write(RecommendSnapshot snapshot, TfIdfIndex contentIndex, Path target,
+							 int tagListSize, int relatedListSize) throws IOException {
+		int questionCount = snapshot.questionCount();
+		String[] tagNames = snapshot.tagNames;
+		// 파일 안의 태그/카테고리 번호는 이름의 바이트 순서 (이분 탐색용)
+		int[] tagOrder = byteOrder(tagNames);
+		int[] categoryOrder = byteOrder(snapshot.categoryNames);
+		int[] categoryPosition = inverse(categoryOrder);
+		int[] tagPosition = inverse(tagOrder);
+
+		Path temp = Files.createTempFile(target.toAbsolutePath().getParent(), target.getFileName().toString(), ".tmp");
+		int[] sections = new int[MappedRecommendIndex.SECTION_COUNT];
+		try {
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+				out.write(new byte[MappedRecommendIndex.HEADER_SIZE]);
+
+				sections[MappedRecommendIndex.QUESTION_IDS] = out.size();
+				for (long id : snapshot.questionIds) {
+					out.writeLong(id);
+				}
+				sections[MappedRecommendIndex.QUESTION_CATEGORIES] = out.size();
+				for (int category : snapshot.questionCategories) {
+					out.writeInt(categoryPosition[category]);
+				}
+				sections[MappedRecommendIndex.QUESTION_TAG_OFFSETS] = out.size();
+				for (int offset : snapshot.questionTagOffsets) {
+					out.writeInt(offset);
+				}
+				sections[MappedRecommendIndex.QUESTION_TAGS] = out.size();
+				for (int tag : snapshot.questionTags) {
+					out.writeInt(tagPosition[tag]);
+				}
+				writeStrings(out, sections, MappedRecommendIndex.CONTENT_OFFSETS, MappedRecommendIndex.CONTENT_BYTES,
+					snapshot.contents, IntStream.range(0, questionCount).toArray());
+
+				writeStrings(out, sections, MappedRecommendIndex.CATEGORY_NAME_OFFSETS, MappedRecommendIndex.CATEGORY_NAME_BYTES,
+					snapshot.categoryNames, categoryOrder);
+				writeLatest(out, sections, snapshot, categoryOrder, tagListSize);
+
+				writeStrings(out, sections, MappedRecommendIndex.TAG_NAME_OFFSETS, MappedRecommendIndex.TAG_NAME_BYTES,
+					tagNames, tagOrder);
+				writeTagLists(out, sections, snapshot, tagOrder, tagListSize);
+
+				writeRelated(out, sections, contentIndex, relatedListSize);
+
+				if (out.size() == Integer.MAX_VALUE) {
+					throw new IllegalStateException("Recommend index exceeds 2GB single mapping limit");
+				}
+			}
+
+			ByteBuffer header = ByteBuffer.allocate(MappedRecommendIndex.HEADER_SIZE);
+			header.putInt(MappedRecommendIndex.MAGIC)
+				.putInt(MappedRecommendIndex.VERSION)
+				.putInt(questionCount)
+				.putInt(tagNames.length)
+				.putInt(snapshot.categoryNames.length)
+				.putInt(tagListSize)
+				.putInt(relatedListSize);
+			for (int section : sections) {
+				header.putInt(section);
+			}
+			header.flip();
+			try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				channel.write(header, 0);
+				channel.force(true);
+			}
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * 카테고리별 최신 질문 (id 내림차순, 최대 limit개)
+	 */
+	private static void writeLatest(DataOutputStream out, int[] sections, RecommendSnapshot snapshot,
+									int[] categoryOrder, int limit) throws IOException {
+		sections[MappedRecommendIndex.CATEGORY_LATEST_OFFSETS] = out.size();
+		int offset = 0;
+		out.writeInt(0);
+		for (int category : categoryOrder) {
+			int size = snapshot.categoryQuestionOffsets[category + 1] - snapshot.categoryQuestionOffsets[category];
+			offset += Math.min(limit, size);
+			out.writeInt(offset);
+		}
+		sections[MappedRecommendIndex.CATEGORY_LATEST_QUESTIONS] = out.size();
+		for (int category : categoryOrder) {
+			int from = snapshot.categoryQuestionOffsets[category];
+			int to = snapshot.categoryQuestionOffsets[category + 1];
+			for (int i = to - 1; i >= Math.max(from, to - limit); i--) {
+				out.writeInt(snapshot.categoryQuestions[i]);
+			}
+		}
+	}
+
+	/**
+	 * 태그마다 TagCooccurrenceEngine과 같은 방식(자기 자신 1 + 이웃 NEIGHBOR_WEIGHT × cosine)으로 점수를 매긴 상위 목록
+	 * 점수가 태그 가중치에 선형이므로, 여러 태그 요청은 태그별 목록의 점수를 더해 근사할 수 있다.
+	 */
+	private static void writeTagLists(DataOutputStream out, int[] sections, RecommendSnapshot snapshot,
+									  int[] tagOrder, int limit) throws IOException {
+		int[][] questions = new int[tagOrder.length][];
+		float[][] scores = new float[tagOrder.length][];
+		float[] questionScores = new float[snapshot.questionCount()];
+		int[] touched = new int[snapshot.questionCount()];
+		for (int position = 0; position < tagOrder.length; position++) {
+			int tag = tagOrder[position];
+			int touchedCount = accumulate(snapshot, tag, 1f, questionScores, touched, 0);
+			for (int i = snapshot.neighborOffsets[tag]; i < snapshot.neighborOffsets[tag + 1]; i++) {
+				touchedCount = accumulate(snapshot, snapshot.neighborTags[i],
+					TagCooccurrenceEngine.NEIGHBOR_WEIGHT * snapshot.neighborWeights[i], questionScores, touched, touchedCount);
+			}
+
+			TopK top = new TopK(limit);
+			for (int i = 0; i < touchedCount; i++) {
+				top.offer(touched[i], questionScores[touched[i]]);
+				questionScores[touched[i]] = 0f;
+			}
+			scores[position] = new float[top.size()];
+			questions[position] = top.drainDescending(scores[position]);
+		}
+
+		sections[MappedRecommendIndex.TAG_LIST_OFFSETS] = out.size();
+		int offset = 0;
+		out.writeInt(0);
+		for (int[] list : questions) {
+			offset += list.length;
+			out.writeInt(offset);
+		}
+		sections[MappedRecommendIndex.TAG_LIST_QUESTIONS] = out.size();
+		for (int[] list : questions) {
+			for (int question : list) {
+				out.writeInt(question);
+			}
+		}
+		sections[MappedRecommendIndex.TAG_LIST_SCORES] = out.size();
+		for (float[] list : scores) {
+			for (float score : list) {
+				out.writeFloat(score);
+			}
+		}
+	}
+
+	private static int accumulate(RecommendSnapshot snapshot, int tag, float weight,
+								  float[] questionScores, int[] touched, int touchedCount) {
+		for (int i = snapshot.tagQuestionOffsets[tag]; i < snapshot.tagQuestionOffsets[tag + 1]; i++) {
+			int question = snapshot.tagQuestions[i];
+			if (questionScores[question] == 0f) {
+				touched[touchedCount++] = question;
+			}
+			questionScores[question] += weight;
+		}
+		return touchedCount;
+	}
+
+	/**
+	 * 질문마다 본문 TF-IDF 관련 질문 상위 목록 (질문 간 독립이므로 병렬 계산)
+	 */
+	private static void writeRelated(DataOutputStream out, int[] sections, TfIdfIndex contentIndex, int limit) throws IOException {
+		int[][] related = new int[contentIndex.documentCount()][];
+		IntStream.range(0, related.length).parallel().forEach(doc -> {
+			TfIdfIndex.Vector vector = contentIndex.documentVector(doc);
+			related[doc] = contentIndex.search(vector.terms(), vector.weights(), doc, limit);
+		});
+
+		sections[MappedRecommendIndex.RELATED_OFFSETS] = out.size();
+		int offset = 0;
+		out.writeInt(0);
+		for (int[] list : related) {
+			offset += list.length;
+			out.writeInt(offset);
+		}
+		sections[MappedRecommendIndex.RELATED_QUESTIONS] = out.size();
+		for (int[] list : related) {
+			for (int question : list) {
+				out.writeInt(question);
+			}
+		}
+	}
+
+	/**
+	 * order 순서대로 문자열을 (offset int[n+1] + UTF-8 bytes)로 쓴다
+	 */
+	private static void writeStrings(DataOutputStream out, int[] sections, int offsetsSection, int bytesSection,
+									 String[] values, int[] order) throws IOException {
+		byte[][] encoded = new byte[order.length][];
+		for (int i = 0; i < order.length; i++) {
+			String value = values[order[i]];
+			encoded[i] = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+		}
+
+		sections[offsetsSection] = out.size();
+		int offset = 0;
+		out.writeInt(0);
+		for (byte[] bytes : encoded) {
+			offset += bytes.length;
+			out.writeInt(offset);
+		}
+		sections[bytesSection] = out.size();
+		for (byte[] bytes : encoded) {
+			out.write(bytes);
+		}
+	}
+
+	private static int[] byteOrder(String[] names) {
+		byte[][] encoded = new byte[names.length][];
+		for (int i = 0; i < names.length; i++) {
+			encoded[i] = names[i].getBytes(StandardCharsets.UTF_8);
+		}
+		return IntStream.range(0, names.length).boxed()
+			.sorted(Comparator.comparing(i -> encoded[i], Arrays::compareUnsigned))
+			.mapToInt(Integer::intValue)
+			.toArray();
+	}
+
+	private static int[] inverse(int[] order) {
+		int[] position = new int[order.length];
+		for (int i = 0; i < order.length; i++) {
+			position[order[i]] = i;
+		}
+		return position;
+	}
+}
@@ -0,0 +1,253 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 추천 엔진이 읽는 불변 스냅샷
+ * 질문-태그 그래프와 태그 동시 출현(co-occurrence) 이웃을 CSR(offset + 값 배열) 형태의 원시 배열로 보관한다.
+ * 만들어진 뒤에는 바뀌지 않으므로 여러 스레드가 락 없이 읽고, 재적재 시에는 통째로 교체된다.
+ */
+public final class RecommendSnapshot {
+
+	/**
+	 * 태그마다 유지할 동시 출현 이웃 수 (가중치 상위)
+	 */
+	static final int MAX_NEIGHBORS = 16;
+
+	private static final RecommendSnapshot EMPTY = build(List.of());
+
+	// 질문 (인덱스는 id 오름차순)
+	final long[] questionIds;
+	final String[] contents;
+	final int[] questionCategories;
+
+	// 질문 → 태그, 태그 → 질문 (CSR)
+	final int[] questionTagOffsets;
+	final int[] questionTags;
+	final int[] tagQuestionOffsets;
+	final int[] tagQuestions;
+
+	// 태그 → 동시 출현 이웃 태그와 가중치 (CSR, 가중치 내림차순)
+	final int[] neighborOffsets;
+	final int[] neighborTags;
+	final float[] neighborWeights;
+
+	// 카테고리 → 질문 (CSR, id 오름차순)
+	final int[] categoryQuestionOffsets;
+	final int[] categoryQuestions;
+
+	final String[] categoryNames;
+	final String[] tagNames;
+	final Map<String, Integer> tagIndex;
+	final Map<String, Integer> categoryIndex;
+
+	private RecommendSnapshot(long[] questionIds, String[] contents, int[] questionCategories,
+							  int[] questionTagOffsets, int[] questionTags,
+							  int[] tagQuestionOffsets, int[] tagQuestions,
+							  int[] neighborOffsets, int[] neighborTags, float[] neighborWeights,
+							  int[] categoryQuestionOffsets, int[] categoryQuestions,
+							  String[] categoryNames, String[] tagNames, Map<String, Integer> tagIndex, Map<String, Integer> categoryIndex) {
+		this.questionIds = questionIds;
+		this.contents = contents;
+		this.questionCategories = questionCategories;
+		this.questionTagOffsets = questionTagOffsets;
+		this.questionTags = questionTags;
+		this.tagQuestionOffsets = tagQuestionOffsets;
+		this.tagQuestions = tagQuestions;
+		this.neighborOffsets = neighborOffsets;
+		this.neighborTags = neighborTags;
+		this.neighborWeights = neighborWeights;
+		this.categoryQuestionOffsets = categoryQuestionOffsets;
+		this.categoryQuestions = categoryQuestions;
+		this.categoryNames = categoryNames;
+		this.tagNames = tagNames;
+		this.tagIndex = tagIndex;
+		this.categoryIndex = categoryIndex;
+	}
+
+	public static RecommendSnapshot empty() {
+		return EMPTY;
+	}
+
+	public int questionCount() {
+		return questionIds.length;
+	}
+
+	public int tagCount() {
+		return tagIndex.size();
+	}
+
+	/**
+	 * @return 질문에 붙은 태그 이름 (없는 질문이면 빈 목록)
+	 */
+	public List<String> tagNamesOf(long questionId) {
+		int question = Arrays.binarySearch(questionIds, questionId);
+		if (question < 0) {
+			return List.of();
+		}
+		List<String> names = new ArrayList<>(questionTagOffsets[question + 1] - questionTagOffsets[question]);
+		for (int i = questionTagOffsets[question]; i < questionTagOffsets[question + 1]; i++) {
+			names.add(tagNames[questionTags[i]]);
+		}
+		return names;
+	}
+
+	/**
+	 * 질문 목록으로 스냅샷을 만든다.
+	 * 동시 출현 가중치는 cosine 정규화한 값(co(a,b) / sqrt(df(a) * df(b)))이다.
+	 */
+	public static RecommendSnapshot build(Collection<SnapshotQuestion> source) {
+		List<SnapshotQuestion> questions = new ArrayList<>(source.size());
+		for (SnapshotQuestion question : source) {
+			if (question != null && question.getId() != null) {
+				questions.add(question);
+			}
+		}
+		questions.sort(Comparator.comparingLong(SnapshotQuestion::getId));
+
+		int questionCount = questions.size();
+		long[] questionIds = new long[questionCount];
+		String[] contents = new String[questionCount];
+		int[] questionCategories = new int[questionCount];
+		int[] questionTagOffsets = new int[questionCount + 1];
+		Map<String, Integer> tagIndex = new HashMap<>();
+		Map<String, Integer> categoryIndex = new HashMap<>();
+		List<String> categoryNames = new ArrayList<>();
+
+		// 1. 질문 → 태그 (질문 안의 중복 태그는 한 번만)
+		int[] questionTagBuffer = new int[Math.max(16, questionCount * 2)];
+		int linkCount = 0;
+		for (int q = 0; q < questionCount; q++) {
+			SnapshotQuestion question = questions.get(q);
+			questionIds[q] = question.getId();
+			contents[q] = question.getContent();
+			String category = question.getCategory() != null ? question.getCategory() : "";
+			questionCategories[q] = categoryIndex.computeIfAbsent(category, key -> {
+				categoryNames.add(key);
+				return categoryNames.size() - 1;
+			});
+
+			int start = linkCount;
+			if (question.getTags() != null) {
+				for (String tagName : question.getTags()) {
+					if (tagName == null || tagName.isBlank()) {
+						continue;
+					}
+					int tag = tagIndex.computeIfAbsent(tagName.trim(), key -> tagIndex.size());
+					if (contains(questionTagBuffer, start, linkCount, tag)) {
+						continue;
+					}
+					if (linkCount == questionTagBuffer.length) {
+						questionTagBuffer = Arrays.copyOf(questionTagBuffer, linkCount * 2);
+					}
+					questionTagBuffer[linkCount++] = tag;
+				}
+			}
+			questionTagOffsets[q + 1] = linkCount;
+		}
+		int[] questionTags = Arrays.copyOf(questionTagBuffer, linkCount);
+
+		// 2. 태그 → 질문 (질문 인덱스 오름차순)
+		int tagCount = tagIndex.size();
+		int[] tagQuestionOffsets = new int[tagCount + 1];
+		for (int tag : questionTags) {
+			tagQuestionOffsets[tag + 1]++;
+		}
+		for (int t = 0; t < tagCount; t++) {
+			tagQuestionOffsets[t + 1] += tagQuestionOffsets[t];
+		}
+		int[] tagQuestions = new int[linkCount];
+		int[] cursor = Arrays.copyOf(tagQuestionOffsets, tagCount);
+		for (int q = 0; q < questionCount; q++) {
+			for (int i = questionTagOffsets[q]; i < questionTagOffsets[q + 1]; i++) {
+				tagQuestions[cursor[questionTags[i]]++] = q;
+			}
+		}
+
+		// 3. 태그 동시 출현 이웃: 태그마다 게시 목록을 훑어 함께 붙은 태그 수를 세고 상위만 남긴다
+		int[] neighborOffsets = new int[tagCount + 1];
+		int[] neighborTagsBuffer = new int[Math.max(16, tagCount * 4)];
+		float[] neighborWeightsBuffer = new float[neighborTagsBuffer.length];
+		int[] coCounts = new int[tagCount];
+		int[] touched = new int[tagCount];
+		float[] weights = new float[tagCount];
+		int neighborCount = 0;
+		for (int a = 0; a < tagCount; a++) {
+			int touchedCount = 0;
+			for (int i = tagQuestionOffsets[a]; i < tagQuestionOffsets[a + 1]; i++) {
+				int q = tagQuestions[i];
+				for (int j = questionTagOffsets[q]; j < questionTagOffsets[q + 1]; j++) {
+					int b = questionTags[j];
+					if (b == a) {
+						continue;
+					}
+					if (coCounts[b]++ == 0) {
+						touched[touchedCount++] = b;
+					}
+				}
+			}
+
+			int dfA = tagQuestionOffsets[a + 1] - tagQuestionOffsets[a];
+			TopK neighbors = new TopK(Math.min(MAX_NEIGHBORS, touchedCount));
+			for (int i = 0; i < touchedCount; i++) {
+				int b = touched[i];
+				int dfB = tagQuestionOffsets[b + 1] - tagQuestionOffsets[b];
+				weights[i] = (float) (coCounts[b] / Math.sqrt((double) dfA * dfB));
+				neighbors.offer(i, weights[i]);
+				coCounts[b] = 0;
+			}
+
+			int[] best = neighbors.drainDescending();
+			if (neighborCount + best.length > neighborTagsBuffer.length) {
+				int capacity = Math.max(neighborTagsBuffer.length * 2, neighborCount + best.length);
+				neighborTagsBuffer = Arrays.copyOf(neighborTagsBuffer, capacity);
+				neighborWeightsBuffer = Arrays.copyOf(neighborWeightsBuffer, capacity);
+			}
+			for (int i : best) {
+				neighborTagsBuffer[neighborCount] = touched[i];
+				neighborWeightsBuffer[neighborCount] = weights[i];
+				neighborCount++;
+			}
+			neighborOffsets[a + 1] = neighborCount;
+		}
+
+		String[] tagNames = new String[tagCount];
+		tagIndex.forEach((name, tag) -> tagNames[tag] = name);
+
+		// 4. 카테고리 → 질문
+		int categoryCount = categoryNames.size();
+		int[] categoryQuestionOffsets = new int[categoryCount + 1];
+		for (int category : questionCategories) {
+			categoryQuestionOffsets[category + 1]++;
+		}
+		for (int c = 0; c < categoryCount; c++) {
+			categoryQuestionOffsets[c + 1] += categoryQuestionOffsets[c];
+		}
+		int[] categoryQuestions = new int[questionCount];
+		int[] categoryCursor = Arrays.copyOf(categoryQuestionOffsets, categoryCount);
+		for (int q = 0; q < questionCount; q++) {
+			categoryQuestions[categoryCursor[questionCategories[q]]++] = q;
+		}
+
+		return new RecommendSnapshot(questionIds, contents, questionCategories,
+			questionTagOffsets, questionTags, tagQuestionOffsets, tagQuestions,
+			neighborOffsets, Arrays.copyOf(neighborTagsBuffer, neighborCount), Arrays.copyOf(neighborWeightsBuffer, neighborCount),
+			categoryQuestionOffsets, categoryQuestions,
+			categoryNames.toArray(String[]::new), tagNames, Map.copyOf(tagIndex), Map.copyOf(categoryIndex));
+	}
+
+	private static boolean contains(int[] values, int from, int to, int value) {
+		for (int i = from; i < to; i++) {
+			if (values[i] == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
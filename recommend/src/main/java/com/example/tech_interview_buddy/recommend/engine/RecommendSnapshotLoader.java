@@ -0,0 +1,102 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 질문 스냅샷 파일(NDJSON)을 읽어 추천 엔진에 적재한다.
+ * 새 스냅샷은 별도로 다 만든 뒤 한 번에 교체하므로, 적재 중에도 기존 스냅샷으로 계속 응답한다.
+ * 미리 계산된 추천 인덱스 파일(recommend.index.path)이 있으면 역직렬화 없이 mmap으로 연다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendSnapshotLoader {
+
+	private final ObjectMapper objectMapper;
+	private final TagCooccurrenceEngine tagCooccurrenceEngine;
+	private final ContentSimilarityEngine contentSimilarityEngine;
+	private final MappedRecommendEngine mappedRecommendEngine;
+
+	@Value("${recommend.snapshot.path:}")
+	private String snapshotPath;
+
+	@Value("${recommend.index.path:}")
+	private String indexPath;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadOnStartup() {
+		boolean hasIndex = exists(indexPath);
+		if (hasIndex) {
+			reloadIndex();
+		}
+		if (exists(snapshotPath)) {
+			reload();
+		} else if (!hasIndex) {
+			log.warn("추천 스냅샷 파일이 없어 빈 스냅샷으로 시작합니다: {}", snapshotPath);
+		}
+	}
+
+	/**
+	 * 추천 인덱스 파일을 다시 매핑해 교체한다 (빌더가 같은 경로에 rename으로 새 파일을 올린 뒤 호출)
+	 */
+	public synchronized MappedRecommendIndex reloadIndex() {
+		if (!exists(indexPath)) {
+			throw new IllegalArgumentException("추천 인덱스 파일이 없습니다: " + indexPath);
+		}
+		long startTime = System.currentTimeMillis();
+		MappedRecommendIndex index;
+		try {
+			index = MappedRecommendIndex.open(Path.of(indexPath));
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to map recommend index: " + indexPath, e);
+		}
+		mappedRecommendEngine.swap(index);
+		log.info("추천 인덱스 매핑 완료: 질문 {}건, 태그 {}개, {}ms",
+			index.questionCount(), index.tagCount(), System.currentTimeMillis() - startTime);
+		return index;
+	}
+
+	/**
+	 * 스냅샷 파일을 다시 읽어 교체한다 (동시에 두 번 적재하지 않도록 직렬화)
+	 */
+	public synchronized RecommendSnapshot reload() {
+		long startTime = System.currentTimeMillis();
+		RecommendSnapshot snapshot = RecommendSnapshot.build(readQuestions(objectMapper, Path.of(snapshotPath)));
+		TfIdfIndex contentIndex = TfIdfIndex.build(snapshot);
+		tagCooccurrenceEngine.swap(snapshot);
+		contentSimilarityEngine.swap(contentIndex);
+		log.info("추천 스냅샷 적재 완료: 질문 {}건, 태그 {}개, 본문 용어 {}개, {}ms",
+			snapshot.questionCount(), snapshot.tagCount(), contentIndex.termIndex.size(), System.currentTimeMillis() - startTime);
+		return snapshot;
+	}
+
+	static List<SnapshotQuestion> readQuestions(ObjectMapper objectMapper, Path path) {
+		List<SnapshotQuestion> questions = new ArrayList<>();
+		try (MappingIterator<SnapshotQuestion> iterator = objectMapper.readerFor(SnapshotQuestion.class).readValues(path.toFile())) {
+			while (iterator.hasNextValue()) {
+				questions.add(iterator.nextValue());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to read recommend snapshot: " + path, e);
+		}
+		return questions;
+	}
+
+	private static boolean exists(String path) {
+		return path != null && !path.isBlank() && Files.exists(Path.of(path));
+	}
+}
@@ -0,0 +1,23 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 스냅샷 파일의 질문 한 건 (NDJSON 한 줄)
+ * {"id":1,"content":"...","category":"ALGORITHM","tags":["정렬","배열"]}
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnapshotQuestion {
+	private Long id;
+	private String content;
+	private String category;
+	private List<String> tags;
+}
@@ -0,0 +1,72 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * 풀이 이력(푼 질문 ID 목록) 압축 표현
+ * 오름차순 ID의 차이값(delta)을 unsigned LEB128 varint로 이어 붙인 뒤 URL-safe Base64(패딩 없음)로 인코딩한다.
+ * ID 간격이 작으면 ID당 1~2바이트라 긴 이력도 요청 크기가 작다.
+ * 앱(인코딩)과 추천 서비스(디코딩)가 이 클래스 하나를 같이 쓴다.
+ */
+public final class SolvedHistoryCodec {
+
+	private SolvedHistoryCodec() {
+	}
+
+	/**
+	 * @param questionIds 오름차순 질문 ID (양수)
+	 * @return 인코딩된 이력, 푼 질문이 없으면 null
+	 */
+	public static String encode(long[] questionIds) {
+		if (questionIds == null || questionIds.length == 0) {
+			return null;
+		}
+		ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(1 << 16, questionIds.length * 2));
+		long previous = 0;
+		for (long id : questionIds) {
+			long delta = id - previous;
+			previous = id;
+			while ((delta & ~0x7fL) != 0) {
+				out.write((int) ((delta & 0x7f) | 0x80));
+				delta >>>= 7;
+			}
+			out.write((int) delta);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(out.toByteArray());
+	}
+
+	/**
+	 * @return 오름차순 질문 ID
+	 */
+	public static long[] decode(String encoded) {
+		byte[] bytes;
+		try {
+			bytes = Base64.getUrlDecoder().decode(encoded);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("풀이 이력 형식이 올바르지 않습니다.", e);
+		}
+
+		long[] ids = new long[Math.max(1, bytes.length)];
+		int count = 0;
+		long previous = 0;
+		int i = 0;
+		while (i < bytes.length) {
+			long delta = 0;
+			int shift = 0;
+			byte b;
+			do {
+				if (i == bytes.length || shift > 63) {
+					throw new IllegalArgumentException("풀이 이력 형식이 올바르지 않습니다.");
+				}
+				b = bytes[i++];
+				delta |= (long) (b & 0x7f) << shift;
+				shift += 7;
+			} while ((b & 0x80) != 0);
+			previous += delta;
+			ids[count++] = previous;
+		}
+		return Arrays.copyOf(ids, count);
+	}
+}
@@ -0,0 +1,221 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import com.example.tech_interview_buddy.recommend.dto.response.RecommendedQuestion;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 태그 동시 출현 기반 추천 엔진
+ * 요청 태그(가중치 1)와 그 동시 출현 이웃 태그(가중치 NEIGHBOR_WEIGHT × cosine)를 질문별로 합산하고,
+ * 고정 크기 힙으로 상위 k개만 고른다.
+ *
+ * 스냅샷은 AtomicReference로 통째로 교체되므로 재적재 중에도 읽기는 막히지 않는다.
+ */
+@Component
+public class TagCooccurrenceEngine {
+
+	static final float NEIGHBOR_WEIGHT = 0.5f;
+
+	private final AtomicReference<RecommendSnapshot> snapshot = new AtomicReference<>(RecommendSnapshot.empty());
+
+	/**
+	 * 요청마다 질문 수만큼의 점수 배열을 새로 만들지 않도록 재사용한다
+	 * ThreadLocal은 요청 스레드 수만큼 배열이 생기므로, 동시에 쓰인 만큼만 만들어지는 풀로 둔다
+	 */
+	private final ConcurrentLinkedQueue<Scratch> scratchPool = new ConcurrentLinkedQueue<>();
+
+	public RecommendSnapshot getSnapshot() {
+		return snapshot.get();
+	}
+
+	public void swap(RecommendSnapshot next) {
+		snapshot.set(next);
+	}
+
+	public List<RecommendedQuestion> recommend(String category, Collection<String> tags, int limit) {
+		return recommend(category, tags, limit, null, Deadline.NONE);
+	}
+
+	/**
+	 * @param category 카테고리 (null이면 전체)
+	 * @param tags 요청 태그 (없으면 카테고리의 최신 질문)
+	 * @param limit 최대 추천 수
+	 * @param profile 사용자 프로필 (있으면 푼 질문을 빼고 약한 태그에 가중치)
+	 * @param deadline 호출자의 기한 (지나면 그때까지 누적한 점수로 상위 k개를 고른다)
+	 */
+	public List<RecommendedQuestion> recommend(String category, Collection<String> tags, int limit,
+											   UserProfile profile, Deadline deadline) {
+		RecommendSnapshot current = snapshot.get();
+		if (limit <= 0 || current.questionCount() == 0) {
+			return List.of();
+		}
+
+		int categoryFilter = -1;
+		if (category != null && !category.isBlank()) {
+			Integer index = current.categoryIndex.get(category);
+			if (index == null) {
+				return List.of();
+			}
+			categoryFilter = index;
+		}
+
+		Scratch work = borrowScratch(current);
+		try {
+			int weightedTags = weighTags(current, tags, work, profile);
+			if (weightedTags == 0) {
+				return latest(current, categoryFilter, limit, profile);
+			}
+			return toResponse(current, scoreQuestions(current, work, categoryFilter, limit, profile, deadline));
+		} finally {
+			work.reset();
+			scratchPool.offer(work);
+		}
+	}
+
+	/**
+	 * 요청 태그와 그 이웃 태그에 가중치를 매긴다
+	 */
+	private int weighTags(RecommendSnapshot current, Collection<String> tags, Scratch work, UserProfile profile) {
+		if (tags == null) {
+			return 0;
+		}
+		for (String tagName : tags) {
+			Integer tag = tagName != null ? current.tagIndex.get(tagName.trim()) : null;
+			if (tag == null) {
+				continue;
+			}
+			work.addTagWeight(tag, UserProfile.boost(profile, current.tagNames[tag]));
+			for (int i = current.neighborOffsets[tag]; i < current.neighborOffsets[tag + 1]; i++) {
+				int neighbor = current.neighborTags[i];
+				work.addTagWeight(neighbor, NEIGHBOR_WEIGHT * current.neighborWeights[i] * UserProfile.boost(profile, current.tagNames[neighbor]));
+			}
+		}
+		return work.touchedTagCount;
+	}
+
+	/**
+	 * 가중치가 붙은 태그의 게시 목록을 훑어 질문 점수를 누적하고 상위 k개를 고른다
+	 * 요청 태그가 이웃 태그보다 먼저 누적되므로, 기한이 지나 중간에 멈춰도 중요한 몫은 이미 반영되어 있다.
+	 */
+	private int[] scoreQuestions(RecommendSnapshot current, Scratch work, int categoryFilter, int limit,
+								 UserProfile profile, Deadline deadline) {
+		for (int i = 0; i < work.touchedTagCount && !deadline.isExpired(); i++) {
+			int tag = work.touchedTags[i];
+			float weight = work.tagWeights[tag];
+			for (int j = current.tagQuestionOffsets[tag]; j < current.tagQuestionOffsets[tag + 1]; j++) {
+				int question = current.tagQuestions[j];
+				if (categoryFilter < 0 || current.questionCategories[question] == categoryFilter) {
+					work.addQuestionScore(question, weight);
+				}
+			}
+		}
+
+		TopK top = new TopK(limit);
+		for (int i = 0; i < work.touchedQuestionCount; i++) {
+			int question = work.touchedQuestions[i];
+			if (!UserProfile.isSolved(profile, current.questionIds[question])) {
+				top.offer(question, work.questionScores[question]);
+			}
+		}
+		return top.drainDescending();
+	}
+
+	/**
+	 * 태그 조건이 없으면 카테고리(또는 전체)의 최신 질문을 돌려준다 (푼 질문 제외)
+	 */
+	private List<RecommendedQuestion> latest(RecommendSnapshot current, int categoryFilter, int limit, UserProfile profile) {
+		int[] questions = new int[limit];
+		int count = 0;
+		if (categoryFilter >= 0) {
+			int from = current.categoryQuestionOffsets[categoryFilter];
+			for (int i = current.categoryQuestionOffsets[categoryFilter + 1] - 1; i >= from && count < limit; i--) {
+				int question = current.categoryQuestions[i];
+				if (!UserProfile.isSolved(profile, current.questionIds[question])) {
+					questions[count++] = question;
+				}
+			}
+		} else {
+			for (int question = current.questionCount() - 1; question >= 0 && count < limit; question--) {
+				if (!UserProfile.isSolved(profile, current.questionIds[question])) {
+					questions[count++] = question;
+				}
+			}
+		}
+		return toResponse(current, Arrays.copyOf(questions, count));
+	}
+
+	private List<RecommendedQuestion> toResponse(RecommendSnapshot current, int[] questions) {
+		List<RecommendedQuestion> result = new ArrayList<>(questions.length);
+		for (int question : questions) {
+			result.add(RecommendedQuestion.builder()
+				.id(current.questionIds[question])
+				.content(current.contents[question])
+				.category(current.categoryNames[current.questionCategories[question]])
+				.build());
+		}
+		return result;
+	}
+
+	private Scratch borrowScratch(RecommendSnapshot current) {
+		Scratch work;
+		while ((work = scratchPool.poll()) != null) {
+			// 스냅샷이 커졌으면 작은 작업 공간은 버린다
+			if (work.questionScores.length >= current.questionCount() && work.tagWeights.length >= current.tagCount()) {
+				return work;
+			}
+		}
+		return new Scratch(current.questionCount(), current.tagCount());
+	}
+
+	/**
+	 * 요청 한 건의 작업 공간
+	 * 건드린 칸만 기록해 두었다가 그 칸만 0으로 되돌려 다음 요청에 재사용한다.
+	 */
+	private static final class Scratch {
+		final float[] questionScores;
+		final int[] touchedQuestions;
+		int touchedQuestionCount;
+
+		final float[] tagWeights;
+		final int[] touchedTags;
+		int touchedTagCount;
+
+		Scratch(int questionCount, int tagCount) {
+			this.questionScores = new float[questionCount];
+			this.touchedQuestions = new int[questionCount];
+			this.tagWeights = new float[tagCount];
+			this.touchedTags = new int[tagCount];
+		}
+
+		void addTagWeight(int tag, float weight) {
+			if (tagWeights[tag] == 0f) {
+				touchedTags[touchedTagCount++] = tag;
+			}
+			tagWeights[tag] += weight;
+		}
+
+		void addQuestionScore(int question, float score) {
+			if (questionScores[question] == 0f) {
+				touchedQuestions[touchedQuestionCount++] = question;
+			}
+			questionScores[question] += score;
+		}
+
+		void reset() {
+			for (int i = 0; i < touchedQuestionCount; i++) {
+				questionScores[touchedQuestions[i]] = 0f;
+			}
+			for (int i = 0; i < touchedTagCount; i++) {
+				tagWeights[touchedTags[i]] = 0f;
+			}
+			touchedQuestionCount = 0;
+			touchedTagCount = 0;
+		}
+	}
+}
@@ -0,0 +1,341 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 질문 본문의 TF-IDF 벡터와 역색인 (불변)
+ * 벡터와 게시 목록은 모두 CSR 원시 배열로 보관하고(박싱된 Map 없음), 문서 인덱스는 RecommendSnapshot의 질문 인덱스와 같다.
+ *
+ * 코사인 유사도 질의는 역색인을 훑어 점수를 누적하되,
+ * - 문서 대부분에 나오는 용어(df 비율 MAX_DF_RATIO 초과)는 건너뛰고
+ * - 용어별 게시 목록은 가중치 상위 MAX_POSTINGS_PER_TERM개만 남겨(pruning) 훑는 양을 제한한다.
+ * 질문 수가 PARALLEL_THRESHOLD 이상이면 문서를 코어 수만큼 샤드로 나누고 샤드별 스캔을 fork-join으로 병렬 실행한다.
+ */
+public final class TfIdfIndex {
+
+	static final int PARALLEL_THRESHOLD = 50_000;
+	static final int MAX_POSTINGS_PER_TERM = 4_096;
+	static final float MAX_DF_RATIO = 0.3f;
+
+	final RecommendSnapshot snapshot;
+	final Map<String, Integer> termIndex;
+	final int[] documentFrequencies;
+	final float[] idf;
+
+	// 문서 → (용어, 가중치) L2 정규화 벡터 (CSR)
+	final int[] docOffsets;
+	final int[] docTerms;
+	final float[] docWeights;
+
+	final Shard[] shards;
+
+	private TfIdfIndex(RecommendSnapshot snapshot, Map<String, Integer> termIndex, int[] documentFrequencies, float[] idf,
+					   int[] docOffsets, int[] docTerms, float[] docWeights, Shard[] shards) {
+		this.snapshot = snapshot;
+		this.termIndex = termIndex;
+		this.documentFrequencies = documentFrequencies;
+		this.idf = idf;
+		this.docOffsets = docOffsets;
+		this.docTerms = docTerms;
+		this.docWeights = docWeights;
+		this.shards = shards;
+	}
+
+	public static TfIdfIndex build(RecommendSnapshot snapshot) {
+		int docCount = snapshot.questionCount();
+		Map<String, Integer> termIndex = new HashMap<>();
+
+		// 1. 문서별 (용어, tf)
+		int[] docOffsets = new int[docCount + 1];
+		int[] termBuffer = new int[Math.max(16, docCount * 8)];
+		float[] tfBuffer = new float[termBuffer.length];
+		int[] dfBuffer = new int[1024];
+		int entryCount = 0;
+		for (int d = 0; d < docCount; d++) {
+			Map<Integer, Integer> counts = new HashMap<>();
+			for (String term : ContentTokenizer.tokenize(snapshot.contents[d])) {
+				counts.merge(termIndex.computeIfAbsent(term, key -> termIndex.size()), 1, Integer::sum);
+			}
+			if (entryCount + counts.size() > termBuffer.length) {
+				int capacity = Math.max(termBuffer.length * 2, entryCount + counts.size());
+				termBuffer = Arrays.copyOf(termBuffer, capacity);
+				tfBuffer = Arrays.copyOf(tfBuffer, capacity);
+			}
+			if (termIndex.size() > dfBuffer.length) {
+				dfBuffer = Arrays.copyOf(dfBuffer, Math.max(dfBuffer.length * 2, termIndex.size()));
+			}
+			for (Map.Entry<Integer, Integer> count : counts.entrySet()) {
+				termBuffer[entryCount] = count.getKey();
+				tfBuffer[entryCount] = count.getValue();
+				dfBuffer[count.getKey()]++;
+				entryCount++;
+			}
+			docOffsets[d + 1] = entryCount;
+		}
+
+		int termCount = termIndex.size();
+		int[] documentFrequencies = Arrays.copyOf(dfBuffer, termCount);
+		float[] idf = new float[termCount];
+		for (int t = 0; t < termCount; t++) {
+			idf[t] = (float) (Math.log((docCount + 1.0) / (documentFrequencies[t] + 1.0)) + 1.0);
+		}
+
+		// 2. 가중치 = (1 + log tf) * idf, 문서별 L2 정규화
+		int[] docTerms = Arrays.copyOf(termBuffer, entryCount);
+		float[] docWeights = Arrays.copyOf(tfBuffer, entryCount);
+		for (int d = 0; d < docCount; d++) {
+			double norm = 0;
+			for (int i = docOffsets[d]; i < docOffsets[d + 1]; i++) {
+				docWeights[i] = (float) ((1 + Math.log(docWeights[i])) * idf[docTerms[i]]);
+				norm += (double) docWeights[i] * docWeights[i];
+			}
+			float inverse = norm > 0 ? (float) (1 / Math.sqrt(norm)) : 0f;
+			for (int i = docOffsets[d]; i < docOffsets[d + 1]; i++) {
+				docWeights[i] *= inverse;
+			}
+		}
+
+		// 3. 샤드별 역색인
+		int shardCount = docCount >= PARALLEL_THRESHOLD ? Runtime.getRuntime().availableProcessors() : 1;
+		int postingsPerTerm = Math.max(1, MAX_POSTINGS_PER_TERM / shardCount);
+		Shard[] shards = new Shard[shardCount];
+		for (int s = 0; s < shardCount; s++) {
+			int from = (int) ((long) docCount * s / shardCount);
+			int to = (int) ((long) docCount * (s + 1) / shardCount);
+			shards[s] = Shard.build(from, to, termCount, docOffsets, docTerms, docWeights, postingsPerTerm);
+		}
+
+		return new TfIdfIndex(snapshot, Map.copyOf(termIndex), documentFrequencies, idf,
+			docOffsets, docTerms, docWeights, shards);
+	}
+
+	public int documentCount() {
+		return docOffsets.length - 1;
+	}
+
+	/**
+	 * 질의 벡터와 코사인 유사도가 높은 문서 상위 limit개
+	 *
+	 * @param excludeDoc 결과에서 뺄 문서 (자기 자신, 없으면 -1)
+	 */
+	int[] search(int[] queryTerms, float[] queryWeights, int excludeDoc, int limit) {
+		int maxDf = (int) Math.max(1, documentCount() * MAX_DF_RATIO);
+		int usable = 0;
+		int[] terms = new int[queryTerms.length];
+		float[] weights = new float[queryTerms.length];
+		for (int i = 0; i < queryTerms.length; i++) {
+			if (documentFrequencies[queryTerms[i]] <= maxDf) {
+				terms[usable] = queryTerms[i];
+				weights[usable] = queryWeights[i];
+				usable++;
+			}
+		}
+		if (usable == 0 || limit <= 0) {
+			return new int[0];
+		}
+
+		ShardScan scan = new ShardScan(this, 0, shards.length, Arrays.copyOf(terms, usable), Arrays.copyOf(weights, usable), excludeDoc, limit);
+		Scored result = shards.length == 1 ? scan.compute() : ForkJoinPool.commonPool().invoke(scan);
+		return result.docs;
+	}
+
+	/**
+	 * 자유 텍스트를 이 인덱스의 idf로 벡터화한다 (사전에 없는 용어는 버림)
+	 */
+	Vector vectorize(String text) {
+		Map<Integer, Integer> counts = new HashMap<>();
+		for (String term : ContentTokenizer.tokenize(text)) {
+			Integer index = termIndex.get(term);
+			if (index != null) {
+				counts.merge(index, 1, Integer::sum);
+			}
+		}
+		int[] terms = new int[counts.size()];
+		float[] weights = new float[counts.size()];
+		int i = 0;
+		for (Map.Entry<Integer, Integer> count : counts.entrySet()) {
+			terms[i] = count.getKey();
+			weights[i] = (float) ((1 + Math.log(count.getValue())) * idf[count.getKey()]);
+			i++;
+		}
+		return new Vector(terms, weights);
+	}
+
+	Vector documentVector(int doc) {
+		return new Vector(
+			Arrays.copyOfRange(docTerms, docOffsets[doc], docOffsets[doc + 1]),
+			Arrays.copyOfRange(docWeights, docOffsets[doc], docOffsets[doc + 1]));
+	}
+
+	record Vector(int[] terms, float[] weights) {
+	}
+
+	private record Scored(int[] docs, float[] scores) {
+	}
+
+	/**
+	 * 문서 구간 [from, to)의 역색인
+	 * 게시 목록은 용어마다 가중치 내림차순으로 정렬하고 상위 postingsPerTerm개만 남긴다.
+	 */
+	static final class Shard {
+		final int from;
+		final int to;
+		final int[] postingOffsets;
+		final int[] postingDocs;
+		final float[] postingWeights;
+		private final ConcurrentLinkedQueue<ScanBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+
+		private Shard(int from, int to, int[] postingOffsets, int[] postingDocs, float[] postingWeights) {
+			this.from = from;
+			this.to = to;
+			this.postingOffsets = postingOffsets;
+			this.postingDocs = postingDocs;
+			this.postingWeights = postingWeights;
+		}
+
+		static Shard build(int from, int to, int termCount, int[] docOffsets, int[] docTerms, float[] docWeights, int postingsPerTerm) {
+			int[] counts = new int[termCount + 1];
+			for (int i = docOffsets[from]; i < docOffsets[to]; i++) {
+				counts[docTerms[i] + 1]++;
+			}
+			for (int t = 0; t < termCount; t++) {
+				counts[t + 1] += counts[t];
+			}
+
+			// (가중치 비트, 문서) 를 long 하나로 묶어 정렬 (양수 float의 비트 순서 = 값 순서)
+			long[] entries = new long[docOffsets[to] - docOffsets[from]];
+			int[] cursor = Arrays.copyOf(counts, termCount);
+			for (int d = from; d < to; d++) {
+				for (int i = docOffsets[d]; i < docOffsets[d + 1]; i++) {
+					entries[cursor[docTerms[i]]++] = ((long) Float.floatToIntBits(docWeights[i]) << 32) | (d - from);
+				}
+			}
+
+			int[] postingOffsets = new int[termCount + 1];
+			int kept = 0;
+			for (int t = 0; t < termCount; t++) {
+				Arrays.sort(entries, counts[t], counts[t + 1]);
+				kept += Math.min(postingsPerTerm, counts[t + 1] - counts[t]);
+				postingOffsets[t + 1] = kept;
+			}
+			int[] postingDocs = new int[kept];
+			float[] postingWeights = new float[kept];
+			for (int t = 0; t < termCount; t++) {
+				int out = postingOffsets[t];
+				for (int i = counts[t + 1] - 1; out < postingOffsets[t + 1]; i--, out++) {
+					postingDocs[out] = (int) entries[i];
+					postingWeights[out] = Float.intBitsToFloat((int) (entries[i] >>> 32));
+				}
+			}
+			return new Shard(from, to, postingOffsets, postingDocs, postingWeights);
+		}
+
+		Scored scan(int[] terms, float[] weights, int excludeDoc, int limit) {
+			ScanBuffer buffer = bufferPool.poll();
+			if (buffer == null) {
+				buffer = new ScanBuffer(to - from);
+			}
+			float[] scores = buffer.scores;
+			int[] touched = buffer.touched;
+			int touchedCount = 0;
+			try {
+				for (int i = 0; i < terms.length; i++) {
+					int term = terms[i];
+					float weight = weights[i];
+					for (int p = postingOffsets[term]; p < postingOffsets[term + 1]; p++) {
+						int local = postingDocs[p];
+						if (scores[local] == 0f) {
+							touched[touchedCount++] = local;
+						}
+						scores[local] += weight * postingWeights[p];
+					}
+				}
+
+				TopK top = new TopK(limit);
+				for (int i = 0; i < touchedCount; i++) {
+					int doc = touched[i] + from;
+					if (doc != excludeDoc) {
+						top.offer(doc, scores[touched[i]]);
+					}
+				}
+				float[] topScores = new float[top.size()];
+				int[] docs = top.drainDescending(topScores);
+				return new Scored(docs, topScores);
+			} finally {
+				for (int i = 0; i < touchedCount; i++) {
+					scores[touched[i]] = 0f;
+				}
+				bufferPool.offer(buffer);
+			}
+		}
+	}
+
+	/**
+	 * 샤드 스캔용 점수 누적 공간 (건드린 칸만 되돌려 재사용)
+	 */
+	private static final class ScanBuffer {
+		final float[] scores;
+		final int[] touched;
+
+		ScanBuffer(int size) {
+			this.scores = new float[size];
+			this.touched = new int[size];
+		}
+	}
+
+	/**
+	 * 샤드 구간을 반으로 나눠 fork하고, 각 샤드의 상위 k개를 다시 상위 k개로 합친다
+	 */
+	private static final class ShardScan extends RecursiveTask<Scored> {
+		private static final long serialVersionUID = 1L;
+
+		private final TfIdfIndex index;
+		private final int fromShard;
+		private final int toShard;
+		private final int[] terms;
+		private final float[] weights;
+		private final int excludeDoc;
+		private final int limit;
+
+		ShardScan(TfIdfIndex index, int fromShard, int toShard, int[] terms, float[] weights, int excludeDoc, int limit) {
+			this.index = index;
+			this.fromShard = fromShard;
+			this.toShard = toShard;
+			this.terms = terms;
+			this.weights = weights;
+			this.excludeDoc = excludeDoc;
+			this.limit = limit;
+		}
+
+		@Override
+		protected Scored compute() {
+			if (toShard - fromShard == 1) {
+				return index.shards[fromShard].scan(terms, weights, excludeDoc, limit);
+			}
+			int middle = (fromShard + toShard) >>> 1;
+			ShardScan left = new ShardScan(index, fromShard, middle, terms, weights, excludeDoc, limit);
+			ShardScan right = new ShardScan(index, middle, toShard, terms, weights, excludeDoc, limit);
+			left.fork();
+			Scored rightResult = right.compute();
+			return merge(left.join(), rightResult);
+		}
+
+		private Scored merge(Scored left, Scored right) {
+			TopK top = new TopK(limit);
+			for (Scored part : List.of(left, right)) {
+				for (int i = 0; i < part.docs().length; i++) {
+					top.offer(part.docs()[i], part.scores()[i]);
+				}
+			}
+			float[] scores = new float[top.size()];
+			int[] docs = top.drainDescending(scores);
+			return new Scored(docs, scores);
+		}
+	}
+}
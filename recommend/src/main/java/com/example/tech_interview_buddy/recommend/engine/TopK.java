@@ -0,0 +1,105 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+/**
+ * 점수 상위 k개만 유지하는 고정 크기 최소 힙
+ * 후보 전체를 정렬하지 않고 O(n log k)로 상위 k개를 고른다.
+ * 동점이면 인덱스가 큰(더 최근) 질문을 우선한다.
+ */
+final class TopK {
+
+	private final int[] items;
+	private final float[] scores;
+	private int size;
+
+	TopK(int k) {
+		this.items = new int[k];
+		this.scores = new float[k];
+	}
+
+	int size() {
+		return size;
+	}
+
+	void offer(int item, float score) {
+		if (items.length == 0) {
+			return;
+		}
+		if (size < items.length) {
+			items[size] = item;
+			scores[size] = score;
+			siftUp(size++);
+		} else if (less(items[0], scores[0], item, score)) {
+			items[0] = item;
+			scores[0] = score;
+			siftDown(0);
+		}
+	}
+
+	/**
+	 * @return 점수 내림차순으로 정렬된 항목 (힙은 비워진다)
+	 */
+	int[] drainDescending() {
+		return drainDescending(null);
+	}
+
+	/**
+	 * @param scoresOut 항목별 점수를 받을 배열 (null이면 받지 않음)
+	 */
+	int[] drainDescending(float[] scoresOut) {
+		int[] result = new int[size];
+		for (int i = size - 1; i >= 0; i--) {
+			result[i] = items[0];
+			if (scoresOut != null) {
+				scoresOut[i] = scores[0];
+			}
+			size--;
+			items[0] = items[size];
+			scores[0] = scores[size];
+			siftDown(0);
+		}
+		return result;
+	}
+
+	private static boolean less(int leftItem, float leftScore, int rightItem, float rightScore) {
+		return leftScore < rightScore || (leftScore == rightScore && leftItem < rightItem);
+	}
+
+	private void siftUp(int index) {
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (!less(items[index], scores[index], items[parent], scores[parent])) {
+				return;
+			}
+			swap(index, parent);
+			index = parent;
+		}
+	}
+
+	private void siftDown(int index) {
+		while (true) {
+			int left = 2 * index + 1;
+			if (left >= size) {
+				return;
+			}
+			int smallest = left;
+			int right = left + 1;
+			if (right < size && less(items[right], scores[right], items[left], scores[left])) {
+				smallest = right;
+			}
+			if (!less(items[smallest], scores[smallest], items[index], scores[index])) {
+				return;
+			}
+			swap(index, smallest);
+			index = smallest;
+		}
+	}
+
+	private void swap(int a, int b) {
+		int item = items[a];
+		items[a] = items[b];
+		items[b] = item;
+		float score = scores[a];
+		scores[a] = scores[b];
+		scores[b] = score;
+	}
+}
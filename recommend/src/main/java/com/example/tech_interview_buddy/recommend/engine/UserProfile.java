@@ -0,0 +1,50 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 사용자의 풀이 이력으로 만든 추천 프로필
+ * 푼 질문은 추천에서 빼고, 적게 풀어 본(약한) 태그일수록 가중치를 높인다: boost = 1 + WEAK_TAG_BOOST / (1 + 푼 질문 수)
+ */
+public final class UserProfile {
+
+	static final float WEAK_TAG_BOOST = 1.0f;
+
+	/**
+	 * 프로필을 만든 스냅샷/인덱스 (교체되면 다시 만든다)
+	 */
+	final Object source;
+	/**
+	 * 프로필을 만든 풀이 이력 인코딩 (이력이 바뀌면 다시 만든다)
+	 */
+	final String history;
+	final long[] solvedQuestionIds;
+	final Map<String, Float> tagBoosts;
+
+	UserProfile(Object source, String history, long[] solvedQuestionIds, Map<String, Float> tagBoosts) {
+		this.source = source;
+		this.history = history;
+		this.solvedQuestionIds = solvedQuestionIds;
+		this.tagBoosts = tagBoosts;
+	}
+
+	static boolean isSolved(UserProfile profile, long questionId) {
+		return profile != null && Arrays.binarySearch(profile.solvedQuestionIds, questionId) >= 0;
+	}
+
+	/**
+	 * @return 태그 가중치 배수 (프로필이 없으면 1)
+	 */
+	static float boost(UserProfile profile, String tagName) {
+		if (profile == null) {
+			return 1f;
+		}
+		Float boost = profile.tagBoosts.get(tagName);
+		return boost != null ? boost : 1f + WEAK_TAG_BOOST;
+	}
+
+	public int solvedCount() {
+		return solvedQuestionIds.length;
+	}
+}
@@ -0,0 +1,78 @@
+package com.example.tech_interview_buddy.recommend.engine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * 사용자별 추천 프로필 캐시
+ * 풀이 이력에서 태그별 풀이 수를 세는 작업은 이력 길이에 비례하므로, 사용자 ID로 캐싱해 두고
+ * 이력 인코딩이나 스냅샷/인덱스가 바뀐 경우에만 다시 만든다.
+ */
+@Component
+public class UserProfileService {
+
+	private final TagCooccurrenceEngine tagCooccurrenceEngine;
+	private final MappedRecommendEngine mappedRecommendEngine;
+	private final Cache<Long, UserProfile> profiles;
+
+	public UserProfileService(TagCooccurrenceEngine tagCooccurrenceEngine,
+							  MappedRecommendEngine mappedRecommendEngine,
+							  @Value("${recommend.profile.cache.maximum-size:10000}") long maximumSize,
+							  @Value("${recommend.profile.cache.expire-after-access-minutes:30}") long expireAfterAccessMinutes) {
+		this.tagCooccurrenceEngine = tagCooccurrenceEngine;
+		this.mappedRecommendEngine = mappedRecommendEngine;
+		this.profiles = Caffeine.newBuilder()
+			.maximumSize(maximumSize)
+			.expireAfterAccess(Duration.ofMinutes(expireAfterAccessMinutes))
+			.build();
+	}
+
+	/**
+	 * @param userId 사용자 ID (null이면 캐싱하지 않음)
+	 * @param solvedQuestionIds 풀이 이력 인코딩 ({@link SolvedHistoryCodec})
+	 * @return 프로필, 이력이 없으면 null (개인화하지 않음)
+	 */
+	public UserProfile profileOf(Long userId, String solvedQuestionIds) {
+		if (solvedQuestionIds == null || solvedQuestionIds.isEmpty()) {
+			return null;
+		}
+		MappedRecommendIndex index = mappedRecommendEngine.getIndex();
+		Object source = index != null ? index : tagCooccurrenceEngine.getSnapshot();
+		if (userId == null) {
+			return build(source, solvedQuestionIds);
+		}
+
+		UserProfile cached = profiles.getIfPresent(userId);
+		if (cached != null && cached.source == source && cached.history.equals(solvedQuestionIds)) {
+			return cached;
+		}
+		UserProfile profile = build(source, solvedQuestionIds);
+		profiles.put(userId, profile);
+		return profile;
+	}
+
+	private static UserProfile build(Object source, String history) {
+		long[] solvedQuestionIds = SolvedHistoryCodec.decode(history);
+		LongFunction<List<String>> tagNamesOf = source instanceof MappedRecommendIndex index
+			? index::tagNamesOf
+			: ((RecommendSnapshot) source)::tagNamesOf;
+
+		Map<String, Integer> solvedCounts = new HashMap<>();
+		for (long questionId : solvedQuestionIds) {
+			for (String tagName : tagNamesOf.apply(questionId)) {
+				solvedCounts.merge(tagName, 1, Integer::sum);
+			}
+		}
+		Map<String, Float> tagBoosts = new HashMap<>(solvedCounts.size() * 2);
+		solvedCounts.forEach((tagName, count) -> tagBoosts.put(tagName, 1f + UserProfile.WEAK_TAG_BOOST / (1 + count)));
+		return new UserProfile(source, history, solvedQuestionIds, tagBoosts);
+	}
+}
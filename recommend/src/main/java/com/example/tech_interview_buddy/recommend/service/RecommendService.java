@@ -0,0 +1,45 @@
+package com.example.tech_interview_buddy.recommend.service;
+
+import com.example.tech_interview_buddy.recommend.dto.response.RecommendedQuestion;
+import com.example.tech_interview_buddy.recommend.engine.Deadline;
+import com.example.tech_interview_buddy.recommend.engine.MappedRecommendEngine;
+import com.example.tech_interview_buddy.recommend.engine.TagCooccurrenceEngine;
+import com.example.tech_interview_buddy.recommend.engine.UserProfile;
+import com.example.tech_interview_buddy.recommend.engine.UserProfileService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 추천 진입점
+ * HTTP 컨트롤러와 앱의 in-process 모드가 같은 로직을 쓰도록 엔진 선택과 개인화를 여기서 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecommendService {
+
+	private final TagCooccurrenceEngine tagCooccurrenceEngine;
+	private final MappedRecommendEngine mappedRecommendEngine;
+	private final UserProfileService userProfileService;
+
+	@Value("${recommend.top-k:3}")
+	private int topK;
+
+	/**
+	 * 🚀 mmap 추천 인덱스가 적재되어 있으면 미리 계산된 목록으로 응답 (없으면 힙 스냅샷 엔진)
+	 * 풀이 이력이 함께 오면 푼 질문을 빼고 약한 태그에 가중치를 준다.
+	 * 기한이 이미 지났으면 계산하지 않고 빈 목록을 돌려준다 (아무도 읽지 않을 응답).
+	 */
+	public List<RecommendedQuestion> recommend(String category, List<String> tags, Long userId, String solvedQuestionIds,
+											   Deadline deadline) {
+		if (deadline.isExpired()) {
+			return List.of();
+		}
+		UserProfile profile = userProfileService.profileOf(userId, solvedQuestionIds);
+		return mappedRecommendEngine.isActive()
+			? mappedRecommendEngine.recommend(category, tags, topK, profile, deadline)
+			: tagCooccurrenceEngine.recommend(category, tags, topK, profile, deadline);
+	}
+}